@@ -309,6 +309,19 @@ public class UniversalMobWarConfigScreen extends Screen {
             relativeY = addSlider(x, relativeY, w, h, windowSeconds, 1.0, 30.0,
                 val -> String.format("Upgrade Window: %.1fs", val),
                 val -> config.upgradeProcessingTimeMs = (int) MathHelper.clamp(Math.round(val * 1000.0), 1000, 30000));
+            double applyBudgetMs = config.upgradeApplyBudgetMicros / 1000.0;
+            relativeY = addSlider(x, relativeY, w, h, applyBudgetMs, 0.1, 20.0,
+                val -> String.format("Upgrade Apply Budget: %.1f ms/tick", val),
+                val -> config.upgradeApplyBudgetMicros = (int) MathHelper.clamp(Math.round(val * 1000.0), 100, 20000));
+            relativeY = addSlider(x, relativeY, w, h, config.upgradeJitterWindowSeconds, 0, 600,
+                val -> String.format("Upgrade Spread Window: %.0fs", val),
+                val -> config.upgradeJitterWindowSeconds = (int) MathHelper.clamp(Math.round(val), 0, 600));
+            relativeY = addSlider(x, relativeY, w, h, config.upgradePassesPerSecond, 1, 400,
+                val -> String.format("Upgrade Passes: %.0f/s", val),
+                val -> config.upgradePassesPerSecond = (int) MathHelper.clamp(Math.round(val), 1, 400));
+            relativeY = addSlider(x, relativeY, w, h, config.mobWarmupPerTick, 0, 512,
+                val -> val < 0.5 ? "Mob Warm-up: Off" : String.format("Mob Warm-up: %.0f/tick", val),
+                val -> config.mobWarmupPerTick = (int) MathHelper.clamp(Math.round(val), 0, 512));
             relativeY = addSlider(x, relativeY, w, h, config.mobDataSaveDebounceMs, 50, 1000,
                 val -> String.format("Mob Save Debounce: %.0f ms", val),
                 val -> config.mobDataSaveDebounceMs = (int) MathHelper.clamp(Math.round(val), 50, 1000));
@@ -3,6 +3,7 @@ package mod.universalmobwar;
 import mod.universalmobwar.command.KitCommand;
 import mod.universalmobwar.command.MobWarCommand;
 import mod.universalmobwar.config.ModConfig;
+import mod.universalmobwar.data.SkillSchemaRegistry;
 import mod.universalmobwar.entity.MobWarlordEntity;
 import mod.universalmobwar.goal.StalemateBreakerGoal;
 import mod.universalmobwar.goal.UniversalTargetGoal;
@@ -12,9 +13,14 @@ import mod.universalmobwar.net.UmwRequiredClientPayload;
 import mod.universalmobwar.net.UmwServerEnchantCompat;
 // Evolution system handled globally via MobDataMixin + ScalingSystem
 import mod.universalmobwar.system.AllianceSystem;
+import mod.universalmobwar.system.CreeperCloudBatch;
 import mod.universalmobwar.system.NaturalSpawnLimiter;
 import mod.universalmobwar.system.EntityCleanupSystem;
+import mod.universalmobwar.system.EquipmentSyncCoalescer;
+import mod.universalmobwar.system.HordeRegionIndex;
+import mod.universalmobwar.system.MobWarmupQueue;
 import mod.universalmobwar.system.ScalingSystem;
+import mod.universalmobwar.system.UpgradeJobScheduler;
 import mod.universalmobwar.util.TargetingUtil;
 import mod.universalmobwar.util.OperationScheduler;
 import net.fabricmc.api.ModInitializer;
@@ -152,7 +158,18 @@ public class UniversalMobWarMod implements ModInitializer {
 		ModConfig config = ModConfig.getInstance();
 
 		UmwServerEnchantCompat.init();
+
+		// Parse mob_configs in the background so the first mob tick does not pay for it.
+		ScalingSystem.preloadConfigsAsync();
 		ServerLifecycleEvents.SERVER_STARTED.register(UniversalMobWarMod::syncGameRulesWithConfig);
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+			MobWarmupQueue.clear();
+			EquipmentSyncCoalescer.clear();
+			ScalingSystem.clearAbilityTimers();
+			HordeRegionIndex.clear();
+			CreeperCloudBatch.clear();
+			SkillSchemaRegistry.unbind();
+		});
 		
 		// Register Skill Tree Events (Projectiles, etc.)
 		// SkillTreeEvents.register();
@@ -197,6 +214,7 @@ public class UniversalMobWarMod implements ModInitializer {
 		});
 
 		// Attach our targeting goal to every MobEntity when it loads into a server world.
+		// Loads are queued and admitted a few per tick so chunk bursts do not land in one tick.
 		ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
 			runSafely(
 				"ENTITY_LOAD for " + entity.getType().getTranslationKey(),
@@ -204,42 +222,15 @@ public class UniversalMobWarMod implements ModInitializer {
 					// Track naturally spawned mobs for spawn limiting.
 					if (world instanceof ServerWorld serverWorld && entity instanceof MobEntity mob) {
 						NaturalSpawnLimiter.onMobLoaded(serverWorld, mob.getCommandTags().contains("umw_natural_spawned"));
+						HordeRegionIndex.onMobLoaded(serverWorld, mob);
 					}
 
 					if (!(entity instanceof MobEntity mob)) return;
 
-					// Evolution System now handled globally via MobDataMixin + ScalingSystem
-					// Each mob automatically inherits progression logic from its JSON config
-
-					// Check if the mod is enabled
-					if (!ModConfig.getInstance().isTargetingActive()) return;
-
-					// Check if this mob type is excluded
-					String mobId = mob.getType().getTranslationKey();
-					if (ModConfig.getInstance().isMobExcluded(mobId)) return;
-
-					GoalSelector targetSelector = ((MobEntityAccessor) mob).getTargetSelector();
-					GoalSelector goalSelector = ((MobEntityAccessor) mob).getGoalSelector();
-
-					// Check if our goal is already added to prevent duplicates on chunk reload
-					boolean alreadyHasGoal = targetSelector.getGoals().stream()
-						.anyMatch(goal -> goal.getGoal() instanceof UniversalTargetGoal);
-
-					if (!alreadyHasGoal) {
-						Supplier<ModConfig> configSupplier = ModConfig::getInstance;
-						// Add targeting goal
-						targetSelector.add(2, new UniversalTargetGoal(
-							mob,
-							() -> configSupplier.get().isTargetingActive(),
-							() -> configSupplier.get().ignoreSameSpecies,
-							() -> configSupplier.get().targetPlayers,
-							() -> configSupplier.get().isAllianceActive(),
-							() -> configSupplier.get().getRangeMultiplier()
-						));
-						
-						// Add stalemate breaker goal (Priority 0 to ensure it always runs)
-						goalSelector.add(0, new StalemateBreakerGoal(mob));
-					}
+					ModConfig modConfig = ModConfig.getInstance();
+					if (modConfig.modEnabled && MobWarmupQueue.enqueue(world, mob, modConfig.getMobWarmupPerTick())) return;
+
+					attachMobWarGoals(mob);
 				}
 			);
 		});
@@ -250,6 +241,8 @@ public class UniversalMobWarMod implements ModInitializer {
 				() -> {
 					if (world instanceof ServerWorld serverWorld && entity instanceof MobEntity mob) {
 						NaturalSpawnLimiter.onMobUnloaded(serverWorld, mob.getCommandTags().contains("umw_natural_spawned"));
+						MobWarmupQueue.remove(mob);
+						HordeRegionIndex.onMobUnloaded(mob);
 					}
 				}
 			);
@@ -257,7 +250,15 @@ public class UniversalMobWarMod implements ModInitializer {
 
 		// OPTIMIZATION: Register cache cleanup for entity query system (every 5 seconds)
 		ServerTickEvents.END_SERVER_TICK.register(server -> {
+			runSafely("END_SERVER_TICK mob warm-up", () ->
+				MobWarmupQueue.drain(server, ModConfig.getInstance().getMobWarmupPerTick(), UniversalMobWarMod::attachMobWarGoals));
 			runSafely("END_SERVER_TICK extra shot queue", () -> ScalingSystem.processExtraShotQueue(server));
+			runSafely("END_SERVER_TICK upgrade waves", () -> UpgradeJobScheduler.getInstance().flushWaves());
+			runSafely("END_SERVER_TICK upgrade apply queue", () -> ScalingSystem.drainCompletedUpgrades(server));
+			// After the apply queue, so every equipment change made this tick lands once, in its final state.
+			runSafely("END_SERVER_TICK equipment sync", EquipmentSyncCoalescer::flush);
+			runSafely("END_SERVER_TICK ability timers", () -> ScalingSystem.expireAbilityTimers(server));
+			runSafely("END_SERVER_TICK creeper clouds", CreeperCloudBatch::flush);
 
 			if (server.getTicks() % 100 == 0) { // Every 5 seconds
 				runSafely("END_SERVER_TICK cache cleanup", () -> {
@@ -287,6 +288,41 @@ public class UniversalMobWarMod implements ModInitializer {
 	}
 
 
+	private static void attachMobWarGoals(MobEntity mob) {
+		// Evolution System now handled globally via MobDataMixin + ScalingSystem
+		// Each mob automatically inherits progression logic from its JSON config
+
+		// Check if the mod is enabled
+		if (!ModConfig.getInstance().isTargetingActive()) return;
+
+		// Check if this mob type is excluded
+		String mobId = mob.getType().getTranslationKey();
+		if (ModConfig.getInstance().isMobExcluded(mobId)) return;
+
+		GoalSelector targetSelector = ((MobEntityAccessor) mob).getTargetSelector();
+		GoalSelector goalSelector = ((MobEntityAccessor) mob).getGoalSelector();
+
+		// Check if our goal is already added to prevent duplicates on chunk reload
+		boolean alreadyHasGoal = targetSelector.getGoals().stream()
+			.anyMatch(goal -> goal.getGoal() instanceof UniversalTargetGoal);
+
+		if (!alreadyHasGoal) {
+			Supplier<ModConfig> configSupplier = ModConfig::getInstance;
+			// Add targeting goal
+			targetSelector.add(2, new UniversalTargetGoal(
+				mob,
+				() -> configSupplier.get().isTargetingActive(),
+				() -> configSupplier.get().ignoreSameSpecies,
+				() -> configSupplier.get().targetPlayers,
+				() -> configSupplier.get().isAllianceActive(),
+				() -> configSupplier.get().getRangeMultiplier()
+			));
+			
+			// Add stalemate breaker goal (Priority 0 to ensure it always runs)
+			goalSelector.add(0, new StalemateBreakerGoal(mob));
+		}
+	}
+
 	private static GameRules.Key<GameRules.BooleanRule> registerBooleanRule(
 		String name,
 		GameRules.Category category,
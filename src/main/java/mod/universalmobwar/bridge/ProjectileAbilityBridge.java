@@ -1,9 +1,24 @@
 package mod.universalmobwar.bridge;
 
+import mod.universalmobwar.system.RangedHitPayload;
+import net.minecraft.server.world.ServerWorld;
+
 /**
- * Bridge interface implemented by projectile mixins so we can mark
- * projectiles that already processed Universal Mob War ability logic.
+ * Bridge interface implemented by projectile mixins so the spawn hook can run
+ * Universal Mob War ability logic once, when a projectile enters the world,
+ * and hit handlers can read back what was decided then.
  */
 public interface ProjectileAbilityBridge {
-    void universalmobwar$setAbilitiesApplied(boolean applied);
+    void universalmobwar$onSpawned(ServerWorld world);
+
+    /**
+     * On-hit abilities baked when a mob fired this projectile, or null if it was never baked.
+     */
+    RangedHitPayload universalmobwar$getHitPayload();
+
+    /**
+     * Hand over a payload baked for another projectile of the same shot (multishot copies) so
+     * spawning this one does not compile it again.
+     */
+    void universalmobwar$setHitPayload(RangedHitPayload payload);
 }
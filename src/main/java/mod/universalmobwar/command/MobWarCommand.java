@@ -8,6 +8,10 @@ import mod.universalmobwar.UniversalMobWarMod;
 import mod.universalmobwar.config.ModConfig;
 import mod.universalmobwar.data.MobWarData;
 import mod.universalmobwar.entity.MobWarlordEntity;
+import mod.universalmobwar.system.MobWarmupQueue;
+import mod.universalmobwar.system.ScalingSystem;
+import mod.universalmobwar.system.UpgradeJobScheduler;
+import mod.universalmobwar.system.UpgradeTelemetry;
 import net.minecraft.command.CommandRegistryAccess;
 import net.minecraft.entity.SpawnReason;
 import net.minecraft.entity.mob.MobEntity;
@@ -19,6 +23,7 @@ import net.minecraft.util.Formatting;
 import net.minecraft.util.math.Vec3d;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides /mobwar commands for managing the mod.
@@ -37,6 +42,11 @@ public class MobWarCommand {
             .then(CommandManager.literal("reload")
                 .requires(source -> source.hasPermissionLevel(2))
                 .executes(MobWarCommand::executeReload))
+            .then(CommandManager.literal("telemetry")
+                .requires(source -> source.hasPermissionLevel(2))
+                .executes(MobWarCommand::executeTelemetry)
+                .then(CommandManager.literal("reset")
+                    .executes(MobWarCommand::executeTelemetryReset)))
             .then(CommandManager.literal("summon")
                 .requires(source -> source.hasPermissionLevel(2))
                 .then(CommandManager.literal("warlord")
@@ -106,6 +116,12 @@ public class MobWarCommand {
                 .styled(style -> style.withColor(Formatting.GREEN))
                 .append(Text.literal(" - Reload config file (OP)")
                     .styled(style -> style.withColor(Formatting.GRAY))), false);
+
+        source.sendFeedback(() -> 
+            Text.literal("  • /mobwar telemetry [reset]")
+                .styled(style -> style.withColor(Formatting.GREEN))
+                .append(Text.literal(" - Upgrade pipeline timings (OP)")
+                    .styled(style -> style.withColor(Formatting.GRAY))), false);
         
         source.sendFeedback(() -> 
             Text.literal("Boss:").styled(style -> style.withColor(Formatting.DARK_PURPLE).withBold(true)), false);
@@ -264,13 +280,58 @@ public class MobWarCommand {
         return count;
     }
     
+    private static int executeTelemetry(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        UpgradeJobScheduler scheduler = UpgradeJobScheduler.getInstance();
+
+        source.sendFeedback(() -> 
+            Text.literal("═══ Upgrade Pipeline ═══")
+                .styled(style -> style.withColor(Formatting.GOLD).withBold(true)), false);
+        source.sendFeedback(() -> 
+            Text.literal("In flight: ")
+                .styled(style -> style.withColor(Formatting.AQUA))
+                .append(Text.literal(scheduler.getActiveJobCount() + " active, " + scheduler.getQueuedJobCount()
+                        + " queued, " + scheduler.getPendingApplyCount() + " awaiting apply, backlog "
+                        + scheduler.estimateBacklogTicks() + " ticks")
+                    .styled(style -> style.withColor(Formatting.WHITE))), false);
+        source.sendFeedback(() -> 
+            Text.literal("Warm-up: ")
+                .styled(style -> style.withColor(Formatting.AQUA))
+                .append(Text.literal(MobWarmupQueue.getPendingCount() + " loaded mob(s) waiting")
+                    .styled(style -> style.withColor(Formatting.WHITE))), false);
+        for (String line : UpgradeTelemetry.describe()) {
+            source.sendFeedback(() -> Text.literal(line).styled(style -> style.withColor(Formatting.GRAY)), false);
+        }
+        return 1;
+    }
+
+    private static int executeTelemetryReset(CommandContext<ServerCommandSource> context) {
+        UpgradeTelemetry.reset();
+        context.getSource().sendFeedback(() -> 
+            Text.literal("Upgrade telemetry reset.")
+                .styled(style -> style.withColor(Formatting.GREEN)), false);
+        return 1;
+    }
+
     private static int executeReload(CommandContext<ServerCommandSource> context) {
         ServerCommandSource source = context.getSource();
         ModConfig config = ModConfig.reload();
+        Map<String, List<String>> changedMobConfigs = ScalingSystem.reloadMobConfigs();
 
         source.sendFeedback(() -> Text.literal("Universal Mob War config reloaded from disk.")
             .styled(style -> style.withColor(Formatting.GREEN).withBold(true)), true);
 
+        if (changedMobConfigs.isEmpty()) {
+            source.sendFeedback(() -> Text.literal("Mob configs: no changes detected.")
+                .styled(style -> style.withColor(Formatting.GRAY)), false);
+        } else {
+            for (Map.Entry<String, List<String>> entry : changedMobConfigs.entrySet()) {
+                source.sendFeedback(() -> Text.literal("Mob config changed: ")
+                    .append(Text.literal(entry.getKey()).styled(s -> s.withColor(Formatting.GOLD)))
+                    .append(Text.literal(" " + entry.getValue()).styled(s -> s.withColor(Formatting.GRAY))), false);
+            }
+        }
+
         // Print all config fields (excluding lists for brevity)
         if (config != null) {
             source.sendFeedback(() -> Text.literal("--- Universal Mob War Config ---")
@@ -319,6 +380,10 @@ public class MobWarCommand {
             source.sendFeedback(() -> Text.literal("enableAsyncTasks: ").append(Text.literal(String.valueOf(config.enableAsyncTasks)).styled(s -> s.withColor(Formatting.YELLOW))), false);
             source.sendFeedback(() -> Text.literal("maxConcurrentUpgradeJobs: ").append(Text.literal(String.valueOf(config.maxConcurrentUpgradeJobs)).styled(s -> s.withColor(Formatting.YELLOW))), false);
             source.sendFeedback(() -> Text.literal("upgradeProcessingTimeMs: ").append(Text.literal(String.valueOf(config.upgradeProcessingTimeMs)).styled(s -> s.withColor(Formatting.YELLOW))), false);
+            source.sendFeedback(() -> Text.literal("upgradeApplyBudgetMicros: ").append(Text.literal(String.valueOf(config.upgradeApplyBudgetMicros)).styled(s -> s.withColor(Formatting.YELLOW))), false);
+            source.sendFeedback(() -> Text.literal("upgradeJitterWindowSeconds: ").append(Text.literal(String.valueOf(config.upgradeJitterWindowSeconds)).styled(s -> s.withColor(Formatting.YELLOW))), false);
+            source.sendFeedback(() -> Text.literal("upgradePassesPerSecond: ").append(Text.literal(String.valueOf(config.upgradePassesPerSecond)).styled(s -> s.withColor(Formatting.YELLOW))), false);
+            source.sendFeedback(() -> Text.literal("mobWarmupPerTick: ").append(Text.literal(String.valueOf(config.mobWarmupPerTick)).styled(s -> s.withColor(Formatting.YELLOW))), false);
             source.sendFeedback(() -> Text.literal("targetingCacheMs: ").append(Text.literal(String.valueOf(config.targetingCacheMs)).styled(s -> s.withColor(Formatting.YELLOW))), false);
             source.sendFeedback(() -> Text.literal("targetingMaxQueriesPerTick: ").append(Text.literal(String.valueOf(config.targetingMaxQueriesPerTick)).styled(s -> s.withColor(Formatting.YELLOW))), false);
             source.sendFeedback(() -> Text.literal("mobDataSaveDebounceMs: ").append(Text.literal(String.valueOf(config.mobDataSaveDebounceMs)).styled(s -> s.withColor(Formatting.YELLOW))), false);
@@ -216,6 +216,22 @@ public class ModConfig implements ConfigData {
     @ConfigEntry.BoundedDiscrete(min = 1000, max = 30000)
     @ConfigEntry.Gui.Tooltip(count = 3)
     public int upgradeProcessingTimeMs = 5000; // Default 5 seconds per skilltree.txt
+
+    @ConfigEntry.BoundedDiscrete(min = 100, max = 20000)
+    @ConfigEntry.Gui.Tooltip(count = 2)
+    public int upgradeApplyBudgetMicros = 2000; // Main-thread time per tick for applying finished upgrades
+
+    @ConfigEntry.BoundedDiscrete(min = 0, max = 600)
+    @ConfigEntry.Gui.Tooltip(count = 2)
+    public int upgradeJitterWindowSeconds = 60; // Spread each cycle's upgrade passes over this window
+
+    @ConfigEntry.BoundedDiscrete(min = 1, max = 400)
+    @ConfigEntry.Gui.Tooltip(count = 2)
+    public int upgradePassesPerSecond = 20; // Global rate at which scheduled upgrade passes may start
+
+    @ConfigEntry.BoundedDiscrete(min = 0, max = 512)
+    @ConfigEntry.Gui.Tooltip(count = 2)
+    public int mobWarmupPerTick = 32; // Newly loaded mobs admitted into mod processing per tick (0 = no warm-up)
     
     @ConfigEntry.BoundedDiscrete(min = 100, max = 5000)
     @ConfigEntry.Gui.Tooltip(count = 2)
@@ -488,6 +504,22 @@ public class ModConfig implements ConfigData {
     public int getMaxConcurrentUpgradeJobs() {
         return Math.max(1, Math.min(256, maxConcurrentUpgradeJobs));
     }
+
+    public long getUpgradeApplyBudgetNanos() {
+        return Math.max(100, Math.min(20000, upgradeApplyBudgetMicros)) * 1000L;
+    }
+
+    public long getUpgradeJitterWindowTicks() {
+        return Math.max(0, Math.min(600, upgradeJitterWindowSeconds)) * 20L;
+    }
+
+    public double getUpgradePassesPerTick() {
+        return Math.max(1, Math.min(400, upgradePassesPerSecond)) / 20.0;
+    }
+
+    public int getMobWarmupPerTick() {
+        return Math.max(0, Math.min(512, mobWarmupPerTick));
+    }
     
     // Section enable checks
     public boolean isTargetingActive() {
@@ -1,7 +1,11 @@
 package mod.universalmobwar.data;
 
+import mod.universalmobwar.UniversalMobWarMod;
+import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtInt;
 
 import java.util.*;
 
@@ -31,25 +35,127 @@ public class MobWarData {
     private double spentPoints = 0;
     private NbtCompound skillData = new NbtCompound();
 
+    // Equipment slots whose contents changed since ScalingSystem last validated them (bit per
+    // EquipmentSlot ordinal). Not persisted: a freshly loaded mob starts with every slot dirty.
+    private static final int ALL_EQUIPMENT_SLOTS_MASK = (1 << EquipmentSlot.values().length) - 1;
+    private int dirtyEquipmentSlots = ALL_EQUIPMENT_SLOTS_MASK;
+
+    // Upgrade potion effects ScalingSystem keeps on the mob (bit per effect, -1 = recompile from
+    // skill data) and whether they need checking because an effect was removed. Not persisted.
+    private int expectedEffects = -1;
+    private boolean effectsDirty = true;
+
+    // Saved compound not decoded yet (see readNbt). Decoded on first access to a persisted field;
+    // written back as-is if nothing ever touched it.
+    private NbtCompound undecoded = null;
+    private MobEntity undecodedOwner = null;
+
+    // Last compact compound written (or read) and a copy of the skillData it was built from, reused
+    // by writeNbt(MobEntity) while nothing changed. Scalar setters flag their group; skillData is
+    // edited in place by its callers, so it is compared against the snapshot instead.
+    private static final int DIRTY_SCALARS = 1;
+    private static final int DIRTY_SKILLS = 1 << 1;
+    private int dirtyGroups = DIRTY_SCALARS | DIRTY_SKILLS;
+    private NbtCompound cachedNbt = null;
+    private NbtCompound cachedSkillSnapshot = null;
+
+    // Damage-triggered abilities the mob owns (bit per ability, -1 = recompile from skill data),
+    // so damage events only call the handlers that can fire. Not persisted.
+    private int damageAbilities = -1;
+
     public MobWarData() {}
 
+    // Equipment change tracking
+    public void markEquipmentDirty(EquipmentSlot slot) {
+        dirtyEquipmentSlots |= 1 << slot.ordinal();
+    }
+
+    public void markAllEquipmentDirty() {
+        dirtyEquipmentSlots = ALL_EQUIPMENT_SLOTS_MASK;
+    }
+
+    public void markEquipmentDirty(int slotMask) {
+        dirtyEquipmentSlots |= slotMask;
+    }
+
+    /**
+     * Returns the dirty slot mask and clears it. Changes made while the caller validates are
+     * recorded again and picked up on the next pass.
+     */
+    public int takeDirtyEquipmentSlots() {
+        int mask = dirtyEquipmentSlots;
+        dirtyEquipmentSlots = 0;
+        return mask;
+    }
+
+    public static boolean isEquipmentSlotInMask(int slotMask, EquipmentSlot slot) {
+        return (slotMask & (1 << slot.ordinal())) != 0;
+    }
+
+    // Upgrade effect tracking
+    public int getExpectedEffects() { return expectedEffects; }
+    public void setExpectedEffects(int effects) { this.expectedEffects = effects; }
+
+    /**
+     * Upgrade levels changed: recompile the expected effects and check them on the next tick.
+     */
+    public void invalidateExpectedEffects() {
+        expectedEffects = -1;
+        effectsDirty = true;
+    }
+
+    public void markEffectsDirty() {
+        effectsDirty = true;
+    }
+
+    public boolean takeEffectsDirty() {
+        boolean dirty = effectsDirty;
+        effectsDirty = false;
+        return dirty;
+    }
+
+    // Damage ability tracking
+    public int getDamageAbilities() { return damageAbilities; }
+    public void setDamageAbilities(int abilities) { this.damageAbilities = abilities; }
+    public void invalidateDamageAbilities() { damageAbilities = -1; }
+
     // Skill Tree Methods
-    public double getSkillPoints() { return skillPoints; }
-    public void setSkillPoints(double points) { this.skillPoints = points; }
-    public double getSpentPoints() { return spentPoints; }
-    public void setSpentPoints(double points) { this.spentPoints = points; }
-    public NbtCompound getSkillData() { return skillData; }
-    public void setSkillData(NbtCompound data) { this.skillData = data; }
+    public double getSkillPoints() { ensureDecoded(); return skillPoints; }
+    public void setSkillPoints(double points) {
+        ensureDecoded();
+        if (points != skillPoints) {
+            this.skillPoints = points;
+            dirtyGroups |= DIRTY_SCALARS;
+        }
+    }
+    public double getSpentPoints() { ensureDecoded(); return spentPoints; }
+    public void setSpentPoints(double points) {
+        ensureDecoded();
+        if (points != spentPoints) {
+            this.spentPoints = points;
+            dirtyGroups |= DIRTY_SCALARS;
+        }
+    }
+    public NbtCompound getSkillData() { ensureDecoded(); return skillData; }
+    public void setSkillData(NbtCompound data) {
+        ensureDecoded();
+        this.skillData = data;
+        this.damageAbilities = -1;
+        dirtyGroups |= DIRTY_SKILLS;
+    }
     
     public PowerProfile getPowerProfile() {
+        ensureDecoded();
         if (skillData == null || skillData.isEmpty()) return null;
         return PowerProfile.fromNbt(skillData);
     }
     
     // Evolution methods
     public void addKill() {
+        ensureDecoded();
         killCount++;
         updateLevel();
+        dirtyGroups |= DIRTY_SCALARS;
     }
     
     private void updateLevel() {
@@ -60,10 +166,12 @@ public class MobWarData {
     }
     
     public int getLevel() {
+        ensureDecoded();
         return level;
     }
     
     public int getKillCount() {
+        ensureDecoded();
         return killCount;
     }
     
@@ -73,22 +181,27 @@ public class MobWarData {
     
     // Stat bonuses based on level
     public double getHealthBonus() {
+        ensureDecoded();
         return level * 0.5; // +0.5 hearts per level
     }
     
     public double getDamageBonus() {
+        ensureDecoded();
         return level * 0.1; // +10% damage per level
     }
     
     public double getSpeedBonus() {
+        ensureDecoded();
         return level * 0.005; // +0.5% speed per level
     }
     
     public double getArmorBonus() {
+        ensureDecoded();
         return level * 0.1; // +0.1 armor per level
     }
     
     public double getKnockbackResistanceBonus() {
+        ensureDecoded();
         return Math.min(level * 0.01, 1.0); // +1% per level, max 100%
     }
     
@@ -135,55 +248,150 @@ public class MobWarData {
     
     // Combat stats
     public void addDamageDealt(double damage) {
+        ensureDecoded();
         damageDealt += damage;
+        dirtyGroups |= DIRTY_SCALARS;
     }
     
     public void addDamageTaken(double damage) {
+        ensureDecoded();
         damageTaken += damage;
+        dirtyGroups |= DIRTY_SCALARS;
     }
     
     public double getDamageDealt() {
+        ensureDecoded();
         return damageDealt;
     }
     
     public double getDamageTaken() {
+        ensureDecoded();
         return damageTaken;
     }
     
     // NBT serialization
+    //
+    // Allies and the current target are rebuilt by the alliance/targeting systems within seconds
+    // of a mob loading, so they are not persisted. Zero-valued fields are omitted.
+    private static final byte COMPACT_FORMAT_VERSION = 2;
+    private static boolean warnedUnknownSchema = false;
+
+    /**
+     * Plain key/value form, used when no schema registry is available (off the server).
+     */
     public NbtCompound writeNbt() {
+        if (undecoded != null) {
+            return undecoded;
+        }
         NbtCompound nbt = new NbtCompound();
-        
-        nbt.putInt("killCount", killCount);
-        nbt.putInt("level", level);
-        nbt.putDouble("damageDealt", damageDealt);
-        nbt.putDouble("damageTaken", damageTaken);
-        
-        // Skill Tree Persistence
-        nbt.putDouble("skillPoints", skillPoints);
-        nbt.putDouble("spentPoints", spentPoints);
+        writeScalars(nbt);
         nbt.put("skillData", skillData);
-        
-        if (currentTarget != null) {
-            nbt.putUuid("currentTarget", currentTarget);
-            nbt.putLong("lastTargetChangeTime", lastTargetChangeTime);
+        return nbt;
+    }
+
+    /**
+     * Compact form: skill levels (every int entry of skillData) as one varint each against the
+     * owner type's schema in {@link SkillSchemaRegistry}, everything else of skillData as-is.
+     */
+    public NbtCompound writeNbt(MobEntity owner) {
+        if (undecoded != null) {
+            // Never touched since loading: nothing can have changed.
+            return undecoded;
         }
-        
-        // Store allies as long array (2 longs per UUID)
-        if (!allies.isEmpty()) {
-            long[] allyArray = new long[allies.size() * 2];
-            int i = 0;
-            for (UUID uuid : allies) {
-                allyArray[i++] = uuid.getMostSignificantBits();
-                allyArray[i++] = uuid.getLeastSignificantBits();
-            }
-            nbt.putLongArray("allies", allyArray);
+        SkillSchemaRegistry schemas = SkillSchemaRegistry.get(owner);
+        if (schemas == null) {
+            return writeNbt();
         }
-        
+        if (cachedSkillSnapshot == null || !cachedSkillSnapshot.equals(skillData)) {
+            dirtyGroups |= DIRTY_SKILLS;
+        }
+        if (cachedNbt != null && dirtyGroups == 0) {
+            return cachedNbt;
+        }
+
+        // Always a new compound: the previous one may still be queued in a chunk save.
+        NbtCompound nbt = new NbtCompound();
+        nbt.putByte("v", COMPACT_FORMAT_VERSION);
+        writeScalars(nbt);
+        if (cachedNbt != null && (dirtyGroups & DIRTY_SKILLS) == 0) {
+            copySkillSection(cachedNbt, nbt);
+        } else if (writeCompactSkillData(nbt, schemas, owner)) {
+            cachedSkillSnapshot = skillData.copy();
+        } else {
+            // New schema not saved with the world yet: stay self-describing until it is.
+            cachedNbt = null;
+            cachedSkillSnapshot = null;
+            return writeNbt();
+        }
+        cachedNbt = nbt;
+        dirtyGroups = 0;
         return nbt;
     }
-    
+
+    /**
+     * Returns false (leaving {@code nbt} incomplete) if the levels' schema isn't persisted yet.
+     */
+    private boolean writeCompactSkillData(NbtCompound nbt, SkillSchemaRegistry schemas, MobEntity owner) {
+        NbtCompound extra = new NbtCompound();
+        List<String> levelKeys = new ArrayList<>();
+        for (String key : skillData.getKeys()) {
+            NbtElement element = skillData.get(key);
+            if (element instanceof NbtInt) {
+                levelKeys.add(key);
+            } else {
+                extra.put(key, element);
+            }
+        }
+        if (!levelKeys.isEmpty()) {
+            long schemaId = schemas.schemaFor(SkillSchemaRegistry.typeKey(owner), levelKeys);
+            if (!schemas.isPersisted(schemaId)) {
+                return false;
+            }
+            nbt.putLong("schema", schemaId);
+            nbt.putByteArray("levels", packLevels(skillData, schemas.keysOf(schemaId)));
+        }
+        if (!extra.isEmpty()) {
+            nbt.put("extra", extra);
+        }
+        return true;
+    }
+
+    private static void copySkillSection(NbtCompound from, NbtCompound into) {
+        for (String key : new String[] {"schema", "levels", "extra"}) {
+            NbtElement element = from.get(key);
+            if (element != null) {
+                into.put(key, element);
+            }
+        }
+    }
+
     public void readNbt(NbtCompound nbt) {
+        readNbt(nbt, null);
+    }
+
+    /**
+     * Keeps {@code nbt} as-is; fields are decoded from it on first access. Chunks full of mobs that
+     * never tick before unloading again (beyond simulation distance, passing through on a flight)
+     * then cost nothing to load and save.
+     */
+    public void readNbt(NbtCompound nbt, MobEntity owner) {
+        undecoded = nbt;
+        undecodedOwner = owner;
+        damageAbilities = -1;
+    }
+
+    private void ensureDecoded() {
+        NbtCompound nbt = undecoded;
+        if (nbt == null) {
+            return;
+        }
+        MobEntity owner = undecodedOwner;
+        undecoded = null;
+        undecodedOwner = null;
+        decode(nbt, owner);
+    }
+
+    private void decode(NbtCompound nbt, MobEntity owner) {
         killCount = nbt.getInt("killCount");
         level = nbt.getInt("level");
         damageDealt = nbt.getDouble("damageDealt");
@@ -192,21 +400,105 @@ public class MobWarData {
         // Skill Tree Persistence
         if (nbt.contains("skillPoints")) skillPoints = nbt.getDouble("skillPoints");
         if (nbt.contains("spentPoints")) spentPoints = nbt.getDouble("spentPoints");
-        if (nbt.contains("skillData")) skillData = nbt.getCompound("skillData");
-        
-        if (nbt.containsUuid("currentTarget")) {
-            currentTarget = nbt.getUuid("currentTarget");
-            lastTargetChangeTime = nbt.getLong("lastTargetChangeTime");
+        if (nbt.getByte("v") >= COMPACT_FORMAT_VERSION) {
+            if (readCompactSkillData(nbt, owner)) {
+                // Exactly what writeNbt(MobEntity) would produce, so it seeds the cache.
+                cachedNbt = nbt;
+                cachedSkillSnapshot = skillData.copy();
+                dirtyGroups = 0;
+            }
+        } else if (nbt.contains("skillData")) {
+            // Copied for the same reason as the compact "extra" compound.
+            skillData = nbt.getCompound("skillData").copy();
         }
-        
-        if (nbt.contains("allies")) {
-            long[] allyArray = nbt.getLongArray("allies");
-            allies.clear();
-            for (int i = 0; i < allyArray.length; i += 2) {
-                UUID uuid = new UUID(allyArray[i], allyArray[i + 1]);
-                allies.add(uuid);
+        damageAbilities = -1;
+    }
+
+    private void writeScalars(NbtCompound nbt) {
+        if (killCount != 0) nbt.putInt("killCount", killCount);
+        if (level != 0) nbt.putInt("level", level);
+        if (damageDealt != 0) nbt.putDouble("damageDealt", damageDealt);
+        if (damageTaken != 0) nbt.putDouble("damageTaken", damageTaken);
+        if (skillPoints != 0) nbt.putDouble("skillPoints", skillPoints);
+        if (spentPoints != 0) nbt.putDouble("spentPoints", spentPoints);
+    }
+
+    /**
+     * Returns false if the levels could not be restored (unknown schema).
+     */
+    private boolean readCompactSkillData(NbtCompound nbt, MobEntity owner) {
+        // Copied: the saved compound may still be referenced by the last chunk save.
+        NbtCompound restored = nbt.getCompound("extra").copy();
+        if (nbt.contains("levels")) {
+            SkillSchemaRegistry schemas = SkillSchemaRegistry.get(owner);
+            List<String> keys = schemas != null ? schemas.keysOf(nbt.getLong("schema")) : null;
+            if (keys != null) {
+                unpackLevels(nbt.getByteArray("levels"), keys, restored);
+            } else {
+                // Written in another world (e.g. copied through a structure file) or against a
+                // schema lost in a crash: the levels can't be named safely, so refund the points
+                // and let the mob buy its upgrades again.
+                spentPoints = 0;
+                if (!warnedUnknownSchema) {
+                    warnedUnknownSchema = true;
+                    UniversalMobWarMod.LOGGER.warn("[UMW] Mob data refers to an unknown skill schema; its upgrades will be re-bought.");
+                }
+                skillData = restored;
+                return false;
             }
         }
+        skillData = restored;
+        return true;
+    }
+
+    private static byte[] packLevels(NbtCompound skillData, List<String> schema) {
+        byte[] out = new byte[schema.size() + 8];
+        int length = 0;
+        int usedLength = 0;
+        for (String key : schema) {
+            long code = skillData.get(key) instanceof NbtInt value ? zigZag(value.intValue()) + 1L : 0L;
+            if (out.length - length < 10) {
+                out = Arrays.copyOf(out, out.length * 2 + 10);
+            }
+            do {
+                byte b = (byte) (code & 0x7F);
+                code >>>= 7;
+                out[length++] = code != 0 ? (byte) (b | 0x80) : b;
+            } while (code != 0);
+            if (out[length - 1] != 0) {
+                usedLength = length;
+            }
+        }
+        // Absent keys at the end of the schema are simply not written.
+        return Arrays.copyOf(out, usedLength);
+    }
+
+    private static void unpackLevels(byte[] packed, List<String> schema, NbtCompound into) {
+        int position = 0;
+        for (String key : schema) {
+            if (position >= packed.length) {
+                return;
+            }
+            long code = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = packed[position++];
+                code |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0 && position < packed.length && shift < 64);
+            if (code != 0) {
+                into.putInt(key, unZigZag(code - 1));
+            }
+        }
+    }
+
+    private static long zigZag(int value) {
+        return ((long) value << 1) ^ ((long) value >> 63);
+    }
+
+    private static int unZigZag(long code) {
+        return (int) ((code >>> 1) ^ -(code & 1));
     }
     
     // Static helper to get or create data for a mob
@@ -222,7 +514,7 @@ public class MobWarData {
         MobWarData data = new MobWarData();
         
         if (nbt.contains(NBT_KEY)) {
-            data.readNbt(nbt.getCompound(NBT_KEY));
+            data.readNbt(nbt.getCompound(NBT_KEY), mob);
         }
         
         return data;
@@ -236,7 +528,7 @@ public class MobWarData {
         
         // Fallback
         NbtCompound nbt = mob.writeNbt(new NbtCompound());
-        nbt.put(NBT_KEY, data.writeNbt());
+        nbt.put(NBT_KEY, data.writeNbt(mob));
         mob.readNbt(nbt);
     }
 }
@@ -0,0 +1,198 @@
+package mod.universalmobwar.data;
+
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.nbt.NbtString;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.PersistentState;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-world table of skill-level key lists ("schemas") that compact MobWarData NBT is written
+ * against, so each mob stores a schema id and one varint per level instead of every key name.
+ *
+ * Schemas are append-only per mob type: when a mob has a level key its type's latest schema lacks,
+ * a new schema with the extra keys appended is registered and older ids stay readable. Stored with
+ * the overworld's saved data.
+ *
+ * Ids are a 64-bit digest of the key list itself, so an id can only ever name that list: a mob
+ * carried into another world, or saved against a schema this world lost in a crash, finds no
+ * schema (and is refunded) instead of having its levels read onto other keys. Mobs only reference
+ * schemas that were already written to disk ({@link #isPersisted}).
+ */
+public final class SkillSchemaRegistry extends PersistentState {
+
+    private static final String STATE_ID = "universalmobwar_skill_schemas";
+    private static final PersistentState.Type<SkillSchemaRegistry> TYPE =
+        new PersistentState.Type<>(SkillSchemaRegistry::new, SkillSchemaRegistry::fromNbt, null);
+
+    private static volatile MinecraftServer boundServer;
+    private static volatile SkillSchemaRegistry bound;
+
+    private final Map<Long, List<String>> schemas = new HashMap<>();
+    private final Map<String, Long> latestByType = new HashMap<>();
+    private final Map<Long, Set<String>> keySets = new HashMap<>();
+    // Ids included in the last writeNbt, i.e. in the saved file.
+    private final Set<Long> persisted = new HashSet<>();
+
+    private SkillSchemaRegistry() {
+    }
+
+    /**
+     * The registry of the world the mob lives in, or null off the server (callers then fall back to
+     * the plain key/value format).
+     */
+    static SkillSchemaRegistry get(MobEntity mob) {
+        if (mob == null || !(mob.getWorld() instanceof ServerWorld world)) {
+            return null;
+        }
+        MinecraftServer server = world.getServer();
+        SkillSchemaRegistry registry = bound;
+        if (registry != null && boundServer == server) {
+            return registry;
+        }
+        synchronized (SkillSchemaRegistry.class) {
+            if (bound != null && boundServer == server) {
+                return bound;
+            }
+            ServerWorld overworld = server.getOverworld();
+            if (overworld == null) {
+                return null;
+            }
+            registry = overworld.getPersistentStateManager().getOrCreate(TYPE, STATE_ID);
+            bound = registry;
+            boundServer = server;
+            return registry;
+        }
+    }
+
+    public static void unbind() {
+        synchronized (SkillSchemaRegistry.class) {
+            bound = null;
+            boundServer = null;
+        }
+    }
+
+    static String typeKey(MobEntity mob) {
+        return EntityType.getId(mob.getType()).toString();
+    }
+
+    /**
+     * Id of a schema for {@code typeKey} that contains every key in {@code keys}.
+     */
+    synchronized long schemaFor(String typeKey, Collection<String> keys) {
+        Long latest = latestByType.get(typeKey);
+        List<String> missing = new ArrayList<>();
+        Set<String> known = latest != null ? keySets.get(latest) : Collections.emptySet();
+        for (String key : keys) {
+            if (!known.contains(key)) {
+                missing.add(key);
+            }
+        }
+        if (latest != null && missing.isEmpty()) {
+            return latest;
+        }
+        Collections.sort(missing);
+        List<String> schema = new ArrayList<>(latest != null ? schemas.get(latest) : List.of());
+        schema.addAll(missing);
+        long id = register(schema);
+        latestByType.put(typeKey, id);
+        markDirty();
+        return id;
+    }
+
+    /**
+     * Keys of schema {@code id} in encoding order, or null if this world doesn't know it.
+     */
+    synchronized List<String> keysOf(long id) {
+        return schemas.get(id);
+    }
+
+    /**
+     * Whether schema {@code id} is in the saved file yet. Until it is, MobWarData writes the plain
+     * self-describing form, so a crash before the next world save can't strand a mob on it.
+     */
+    synchronized boolean isPersisted(long id) {
+        return persisted.contains(id);
+    }
+
+    private long register(List<String> schema) {
+        List<String> frozen = List.copyOf(schema);
+        long id = schemaId(frozen);
+        if (schemas.putIfAbsent(id, frozen) == null) {
+            keySets.put(id, new HashSet<>(frozen));
+        }
+        return id;
+    }
+
+    /**
+     * 64-bit FNV-1a over the keys in order (each terminated by a 0 char), finished with a SplitMix64
+     * mix.
+     */
+    static long schemaId(List<String> keys) {
+        long hash = 0xcbf29ce484222325L;
+        for (String key : keys) {
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    @Override
+    public synchronized NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        NbtList schemaList = new NbtList();
+        for (List<String> schema : schemas.values()) {
+            NbtList keys = new NbtList();
+            for (String key : schema) {
+                keys.add(NbtString.of(key));
+            }
+            schemaList.add(keys);
+        }
+        nbt.put("schemas", schemaList);
+        NbtCompound types = new NbtCompound();
+        latestByType.forEach(types::putLong);
+        nbt.put("types", types);
+        // Written to disk straight after this returns (PersistentState#save).
+        persisted.addAll(schemas.keySet());
+        return nbt;
+    }
+
+    private static SkillSchemaRegistry fromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        SkillSchemaRegistry registry = new SkillSchemaRegistry();
+        NbtList schemaList = nbt.getList("schemas", NbtElement.LIST_TYPE);
+        for (int i = 0; i < schemaList.size(); i++) {
+            NbtList keys = schemaList.getList(i);
+            List<String> schema = new ArrayList<>(keys.size());
+            for (int k = 0; k < keys.size(); k++) {
+                schema.add(keys.getString(k));
+            }
+            registry.persisted.add(registry.register(schema));
+        }
+        NbtCompound types = nbt.getCompound("types");
+        for (String type : types.getKeys()) {
+            long id = types.getLong(type);
+            if (registry.schemas.containsKey(id)) {
+                registry.latestByType.put(type, id);
+            }
+        }
+        return registry;
+    }
+}
@@ -64,8 +64,10 @@ public class MobWarlordEntity extends HostileEntity {
     private static final TrackedData<Integer> MINION_COUNT = DataTracker.registerData(MobWarlordEntity.class, TrackedDataHandlerRegistry.INTEGER);
     private static final TrackedData<Boolean> IS_RAID_BOSS = DataTracker.registerData(MobWarlordEntity.class, TrackedDataHandlerRegistry.BOOLEAN);
     
-    // Local tracking of this warlord's minions (for quick access, syncs with WarlordSystem)
-    private final Set<UUID> minionUuids = new HashSet<>();
+    // This warlord's minions, straight from WarlordSystem's reverse index (live read-only view)
+    private Set<UUID> minionUuids() {
+        return WarlordSystem.getMinionsView(this.getUuid());
+    }
     
     private final ServerBossBar bossBar;
     private int attackCooldown = 0;
@@ -211,8 +213,7 @@ public class MobWarlordEntity extends HostileEntity {
      * Uses WarlordSystem for centralized tracking.
      */
     public void markBetrayer(UUID minionUuid) {
-        if (minionUuids.contains(minionUuid)) {
-            minionUuids.remove(minionUuid);
+        if (WarlordSystem.isMinionOf(minionUuid, this.getUuid())) {
             // Use WarlordSystem for centralized betrayer tracking
             WarlordSystem.markBetrayer(minionUuid, this.getUuid());
         }
@@ -293,7 +294,7 @@ public class MobWarlordEntity extends HostileEntity {
         
         // OPTIMIZED: Auto-summon with UUID offset (spreads summon checks across 40 ticks)
         if ((this.age + summonOffset) % SUMMON_COOLDOWN == 0 && this.age > 60) {
-            int currentMinions = minionUuids.size();
+            int currentMinions = minionUuids().size();
             float healthPercent = this.getHealth() / this.getMaxHealth();
             
             // More aggressive summoning when hurt
@@ -346,7 +347,7 @@ public class MobWarlordEntity extends HostileEntity {
         if (this.age % 40 == 0 && this.age > 60) {
             LivingEntity bossTarget = this.getTarget();
             if (bossTarget != null && bossTarget.isAlive() && serverWorld != null) {
-                for (UUID minionUuid : minionUuids) {
+                for (UUID minionUuid : minionUuids()) {
                     try {
                         Entity entity = serverWorld.getEntity(minionUuid);
                         if (entity instanceof MobEntity minion && minion.isAlive()) {
@@ -373,7 +374,7 @@ public class MobWarlordEntity extends HostileEntity {
         if (!(this.getWorld() instanceof ServerWorld serverWorld)) return;
         
         // OPTIMIZATION: Only validate 3 random minions per cycle
-        List<UUID> minionsList = new ArrayList<>(minionUuids);
+        List<UUID> minionsList = new ArrayList<>(minionUuids());
         Collections.shuffle(minionsList);
         int checksThisCycle = Math.min(3, minionsList.size());
         
@@ -440,9 +441,9 @@ public class MobWarlordEntity extends HostileEntity {
             
             // OPTIMIZATION: Limit connections drawn based on minion count
             int drawnCount = 0;
-            int maxDraws = Math.min(10, minionUuids.size()); // Reduced from 15 to 10
+            int maxDraws = Math.min(10, minionUuids().size()); // Reduced from 15 to 10
             
-            for (UUID minionUuid : minionUuids) {
+            for (UUID minionUuid : minionUuids()) {
                 if (drawnCount++ >= maxDraws) break;
                 
                 try {
@@ -462,7 +463,7 @@ public class MobWarlordEntity extends HostileEntity {
                         Vec3d step = direction.normalize().multiply(1.5); // OPTIMIZED: Particle every 1.5 blocks (was 1.0)
                         
                         // OPTIMIZATION: Fewer particles per connection, scale with minion count
-                        int maxParticles = minionUuids.size() > 10 ? 5 : 10; // Reduced from 8/15
+                        int maxParticles = minionUuids().size() > 10 ? 5 : 10; // Reduced from 8/15
                         int particleCount = Math.min((int)(distance / 1.5), maxParticles);
                         for (int i = 0; i < particleCount; i++) {
                             Vec3d particlePos = bossPos.add(step.multiply(i));
@@ -502,7 +503,7 @@ public class MobWarlordEntity extends HostileEntity {
      */
     public void tryConvertKilledMob(MobEntity killedMob) {
         if (!(this.getWorld() instanceof ServerWorld serverWorld)) return;
-        if (minionUuids.size() >= getMaxMinions()) return;
+        if (minionUuids().size() >= getMaxMinions()) return;
         if (killedMob == null || !killedMob.isAlive()) return;
         
         // CRITICAL: Never convert other Mob Warlords (prevents infinite loops and conflicts)
@@ -524,7 +525,6 @@ public class MobWarlordEntity extends HostileEntity {
         
         // Add to minion tracking via WarlordSystem
         WarlordSystem.registerMinion(killedMob.getUuid(), this.getUuid());
-        minionUuids.add(killedMob.getUuid());
         
         // Register with universal summoner tracker
         SummonerTracker.registerSummoned(killedMob.getUuid(), this.getUuid());
@@ -581,7 +581,7 @@ public class MobWarlordEntity extends HostileEntity {
         this.playSound(SoundEvents.ENTITY_EVOKER_PREPARE_SUMMON, 1.5f, 0.8f);
         this.playSound(SoundEvents.ENTITY_ZOMBIE_VILLAGER_CURE, 1.0f, 1.5f);
         
-        this.dataTracker.set(MINION_COUNT, minionUuids.size());
+        this.dataTracker.set(MINION_COUNT, minionUuids().size());
         
         //noinspection deprecation
         UniversalMobWarMod.LOGGER.debug("Mob Warlord converted {} into a minion! (UUID: {})", 
@@ -599,7 +599,7 @@ public class MobWarlordEntity extends HostileEntity {
         // Check if neutral mobs should be aggressive
         boolean neutralAggressive = serverWorld.getGameRules().getBoolean(UniversalMobWarMod.NEUTRAL_MOBS_AGGRESSIVE_RULE);
         
-        for (int i = 0; i < count && minionUuids.size() < getMaxMinions(); i++) {
+        for (int i = 0; i < count && minionUuids().size() < getMaxMinions(); i++) {
             EntityType<?> minionType = getRandomMobType(neutralAggressive);
             if (minionType == null) continue;
             
@@ -624,7 +624,6 @@ public class MobWarlordEntity extends HostileEntity {
                 if (spawned) {
                     // AFTER spawning, register as minion via WarlordSystem
                     WarlordSystem.registerMinion(minion.getUuid(), this.getUuid());
-                    minionUuids.add(minion.getUuid());
                     
                     // ALSO register with universal summoner tracker
                     SummonerTracker.registerSummoned(minion.getUuid(), this.getUuid());
@@ -668,7 +667,7 @@ public class MobWarlordEntity extends HostileEntity {
             }
         }
         
-        this.dataTracker.set(MINION_COUNT, minionUuids.size());
+        this.dataTracker.set(MINION_COUNT, minionUuids().size());
     }
     
     /**
@@ -747,19 +746,16 @@ public class MobWarlordEntity extends HostileEntity {
         if (this.age < 60) return; // Skip during initialization (3 seconds)
         
         // OPTIMIZATION: Skip cleanup if no minions
-        if (minionUuids.isEmpty()) {
+        if (minionUuids().isEmpty()) {
             return;
         }
         
         try {
-            // Performance optimization: Create a list to avoid concurrent modification
-            List<UUID> toRemove = new ArrayList<>();
-            
             // Limit how many we check at once for large modpacks
             int checked = 0;
             int maxChecks = 10; // Check max 10 minions per cleanup cycle
             
-            for (UUID uuid : minionUuids) {
+            for (UUID uuid : minionUuids()) {
                 if (checked++ >= maxChecks) break;
                 
                 try {
@@ -767,23 +763,18 @@ public class MobWarlordEntity extends HostileEntity {
                     boolean isDead = entity == null || !entity.isAlive();
                     
                     if (isDead) {
-                        toRemove.add(uuid);
-                        // Use WarlordSystem to unregister
+                        // Use WarlordSystem to unregister (the view is concurrent, safe mid-loop)
                         WarlordSystem.unregisterMinion(uuid);
                     }
                 } catch (Exception e) {
                     // Skip problematic UUIDs
-                    toRemove.add(uuid); // Remove problematic minions to prevent future errors
-                    WarlordSystem.unregisterMinion(uuid);
+                    WarlordSystem.unregisterMinion(uuid); // Remove problematic minions to prevent future errors
                 }
             }
             
-            // Remove all dead minions from local list
-            minionUuids.removeAll(toRemove);
-            
             // Update data tracker safely
             if (this.dataTracker != null) {
-                this.dataTracker.set(MINION_COUNT, minionUuids.size());
+                this.dataTracker.set(MINION_COUNT, minionUuids().size());
             }
         } catch (Exception e) {
             // Silently ignore errors during world loading
@@ -830,7 +821,7 @@ public class MobWarlordEntity extends HostileEntity {
         MobEntity lowestHealthMinion = null;
         float lowestHealthPercent = 1.0f;
         
-        for (UUID minionUuid : minionUuids) {
+        for (UUID minionUuid : minionUuids()) {
             try {
                 Entity entity = serverWorld.getEntity(minionUuid);
                 if (entity instanceof MobEntity minion && minion.isAlive()) {
@@ -950,7 +941,7 @@ public class MobWarlordEntity extends HostileEntity {
         MobEntity nearestMinion = null;
         double nearestDistance = Double.MAX_VALUE;
         
-        for (UUID minionUuid : minionUuids) {
+        for (UUID minionUuid : minionUuids()) {
             try {
                 Entity entity = serverWorld.getEntity(minionUuid);
                 if (entity instanceof MobEntity minion && minion.isAlive()) {
@@ -1222,9 +1213,10 @@ public class MobWarlordEntity extends HostileEntity {
     public void writeCustomDataToNbt(NbtCompound nbt) {
         super.writeCustomDataToNbt(nbt);
         
-        long[] minionArray = new long[minionUuids.size() * 2];
+        List<UUID> minions = new ArrayList<>(minionUuids());
+        long[] minionArray = new long[minions.size() * 2];
         int i = 0;
-        for (UUID uuid : minionUuids) {
+        for (UUID uuid : minions) {
             minionArray[i++] = uuid.getMostSignificantBits();
             minionArray[i++] = uuid.getLeastSignificantBits();
         }
@@ -1242,10 +1234,11 @@ public class MobWarlordEntity extends HostileEntity {
         
         if (nbt.contains("Minions")) {
             long[] minionArray = nbt.getLongArray("Minions");
-            minionUuids.clear();
-            for (int i = 0; i < minionArray.length; i += 2) {
-                UUID uuid = new UUID(minionArray[i], minionArray[i + 1]);
-                minionUuids.add(uuid);
+            if (!this.getWorld().isClient()) {
+                // Rebuild this warlord's army in WarlordSystem (its index is not saved)
+                for (int i = 0; i + 1 < minionArray.length; i += 2) {
+                    WarlordSystem.registerMinion(new UUID(minionArray[i], minionArray[i + 1]), this.getUuid());
+                }
             }
         }
         
@@ -1287,7 +1280,7 @@ public class MobWarlordEntity extends HostileEntity {
         
         // OPTIMIZED: Stagger minion deaths to prevent lag spike (5 per tick, cascading death effect)
         if (!this.getWorld().isClient && this.getWorld() instanceof ServerWorld serverWorld) {
-            List<UUID> minionList = new ArrayList<>(minionUuids);
+            List<UUID> minionList = new ArrayList<>(minionUuids());
             
             // Schedule staggered minion deaths
             for (int i = 0; i < minionList.size(); i++) {
@@ -1300,7 +1293,7 @@ public class MobWarlordEntity extends HostileEntity {
                 });
             }
             
-            minionUuids.clear();
+            WarlordSystem.clearWarlordMinions(this.getUuid());
             
             // Victory message
             serverWorld.getPlayers().forEach(player -> {
@@ -1310,6 +1303,17 @@ public class MobWarlordEntity extends HostileEntity {
         }
     }
     
+    @Override
+    public void remove(Entity.RemovalReason reason) {
+        super.remove(reason);
+        
+        // Discarded or killed for good: drop the army from WarlordSystem. Unloads keep it, the
+        // saved minion list re-registers the same army when the warlord loads again.
+        if (!this.getWorld().isClient && reason.shouldDestroy()) {
+            WarlordSystem.clearWarlordMinions(this.getUuid());
+        }
+    }
+    
     /**
      * Helper method to schedule minion death after a delay.
      */
@@ -1386,7 +1390,7 @@ public class MobWarlordEntity extends HostileEntity {
             int checkedCount = 0;
             int maxChecks = 5; // Only check 5 minions per check cycle
             
-            for (UUID minionUuid : this.warlord.minionUuids) {
+            for (UUID minionUuid : this.warlord.minionUuids()) {
                 if (checkedCount++ >= maxChecks) break; // Stop after checking max minions
                 
                 try {
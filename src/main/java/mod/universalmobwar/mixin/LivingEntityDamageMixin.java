@@ -7,7 +7,6 @@ import mod.universalmobwar.system.ScalingSystem;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.server.world.ServerWorld;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -39,11 +38,7 @@ public abstract class LivingEntityDamageMixin {
                 return;
             }
 
-            long currentTick = mobEntity.getWorld().getTime();
-            ScalingSystem.handleDamageAbilities(mobEntity, data, currentTick);
-            if (mobEntity.getWorld() instanceof ServerWorld serverWorld) {
-                ScalingSystem.handleHordeSummon(mobEntity, data, serverWorld, currentTick);
-            }
+            ScalingSystem.dispatchDamageAbilities(mobEntity, data, mobEntity.getWorld().getTime());
         });
     }
 }
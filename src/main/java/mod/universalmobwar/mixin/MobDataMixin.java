@@ -4,12 +4,16 @@ import mod.universalmobwar.UniversalMobWarMod;
 import mod.universalmobwar.config.ModConfig;
 import mod.universalmobwar.data.IMobWarDataHolder;
 import mod.universalmobwar.data.MobWarData;
+import mod.universalmobwar.system.EquipmentSyncCoalescer;
+import mod.universalmobwar.system.MobWarmupQueue;
 import mod.universalmobwar.system.ScalingSystem;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
+import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.World;
@@ -57,7 +61,7 @@ public abstract class MobDataMixin extends LivingEntity implements IMobWarDataHo
     private void onWriteNbt(NbtCompound nbt, CallbackInfo ci) {
         UniversalMobWarMod.runSafely("MobDataMixin#writeCustomDataToNbt", () -> {
             if (universalMobWarData != null) {
-                nbt.put("UniversalMobWarData", universalMobWarData.writeNbt());
+                nbt.put("UniversalMobWarData", universalMobWarData.writeNbt((MobEntity) (Object) this));
             }
         });
     }
@@ -67,7 +71,7 @@ public abstract class MobDataMixin extends LivingEntity implements IMobWarDataHo
         UniversalMobWarMod.runSafely("MobDataMixin#readCustomDataFromNbt", () -> {
             if (nbt.contains("UniversalMobWarData")) {
                 universalMobWarData = new MobWarData();
-                universalMobWarData.readNbt(nbt.getCompound("UniversalMobWarData"));
+                universalMobWarData.readNbt(nbt.getCompound("UniversalMobWarData"), (MobEntity) (Object) this);
             }
         });
     }
@@ -90,11 +94,29 @@ public abstract class MobDataMixin extends LivingEntity implements IMobWarDataHo
                 return;
             }
             MobEntity self = (MobEntity)(Object)this;
+            if (MobWarmupQueue.isWarming(self)) {
+                return; // Just loaded; picked up once the warm-up queue admits it
+            }
             ScalingSystem.monitorEquipmentState(self, universalMobWarData);
             ScalingSystem.processMobTick(self, self.getWorld(), universalMobWarData);
         });
     }
 
+    /**
+     * Every equip, pickup and drop goes through equipStack; flag the slot so monitorEquipmentState
+     * re-validates just that slot on the next tick instead of scanning all of them every tick, and
+     * drop anything still staged for it so the end-of-tick flush can't overwrite this write.
+     */
+    @Inject(method = "equipStack", at = @At("TAIL"))
+    private void universalmobwar$onEquipStack(EquipmentSlot slot, ItemStack stack, CallbackInfo ci) {
+        UniversalMobWarMod.runSafely("MobDataMixin#onEquipStack", () -> {
+            if (universalMobWarData != null && !this.getWorld().isClient()) {
+                universalMobWarData.markEquipmentDirty(slot);
+                EquipmentSyncCoalescer.discard((MobEntity) (Object) this, slot);
+            }
+        });
+    }
+
     @Inject(method = "tryAttack(Lnet/minecraft/entity/Entity;)Z", at = @At("TAIL"))
     private void universalmobwar$handleMeleeAbilities(Entity target, CallbackInfoReturnable<Boolean> cir) {
         UniversalMobWarMod.runSafely("MobDataMixin#handleMeleeAbilities", () -> {
@@ -152,6 +174,11 @@ public abstract class MobDataMixin extends LivingEntity implements IMobWarDataHo
             self.equipStack(net.minecraft.entity.EquipmentSlot.OFFHAND, net.minecraft.item.ItemStack.EMPTY);
 
             ScalingSystem.handleSpawnBootstrap(self, spawnReason, universalMobWarData);
+
+            // Spawned straight into a live world (not worldgen): skip the chunk-load warm-up queue.
+            if (world instanceof ServerWorld) {
+                MobWarmupQueue.markSpawned(self);
+            }
         });
     }
 }
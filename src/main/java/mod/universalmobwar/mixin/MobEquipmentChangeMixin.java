@@ -0,0 +1,32 @@
+package mod.universalmobwar.mixin;
+
+import mod.universalmobwar.UniversalMobWarMod;
+import mod.universalmobwar.data.IMobWarDataHolder;
+import mod.universalmobwar.data.MobWarData;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.Item;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Flags a mob's equipment slot for re-validation when the item in it breaks. Breaking shrinks the
+ * stack in place without going through equipStack, so MobDataMixin's hook never sees it.
+ */
+@Mixin(LivingEntity.class)
+public abstract class MobEquipmentChangeMixin {
+
+    @Inject(method = "sendEquipmentBreakStatus", at = @At("HEAD"))
+    private void universalmobwar$markBrokenSlotDirty(Item item, EquipmentSlot slot, CallbackInfo ci) {
+        UniversalMobWarMod.runSafely("MobEquipmentChangeMixin#markBrokenSlotDirty", () -> {
+            if ((Object) this instanceof IMobWarDataHolder holder) {
+                MobWarData data = holder.getMobWarData();
+                if (data != null) {
+                    data.markEquipmentDirty(slot);
+                }
+            }
+        });
+    }
+}
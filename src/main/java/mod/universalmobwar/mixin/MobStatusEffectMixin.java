@@ -0,0 +1,31 @@
+package mod.universalmobwar.mixin;
+
+import mod.universalmobwar.UniversalMobWarMod;
+import mod.universalmobwar.data.IMobWarDataHolder;
+import mod.universalmobwar.data.MobWarData;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Tells ScalingSystem a mob lost a status effect (milk, /effect clear, expiry, removal by other
+ * mods) so its permanent upgrade effects are re-checked on the next tick instead of every tick.
+ */
+@Mixin(LivingEntity.class)
+public abstract class MobStatusEffectMixin {
+
+    @Inject(method = "onStatusEffectRemoved", at = @At("HEAD"))
+    private void universalmobwar$markEffectsDirty(StatusEffectInstance effect, CallbackInfo ci) {
+        UniversalMobWarMod.runSafely("MobStatusEffectMixin#markEffectsDirty", () -> {
+            if ((Object) this instanceof IMobWarDataHolder holder) {
+                MobWarData data = holder.getMobWarData();
+                if (data != null) {
+                    data.markEffectsDirty();
+                }
+            }
+        });
+    }
+}
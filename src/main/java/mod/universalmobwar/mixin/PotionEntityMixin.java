@@ -1,13 +1,11 @@
 package mod.universalmobwar.mixin;
 
 import mod.universalmobwar.UniversalMobWarMod;
-import mod.universalmobwar.data.IMobWarDataHolder;
-import mod.universalmobwar.data.MobWarData;
+import mod.universalmobwar.system.RangedHitPayload;
 import mod.universalmobwar.system.ScalingSystem;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.projectile.thrown.PotionEntity;
 import net.minecraft.entity.projectile.thrown.ThrownItemEntity;
 import net.minecraft.util.hit.EntityHitResult;
@@ -41,42 +39,28 @@ public abstract class PotionEntityMixin extends ThrownItemEntity {
                 return;
             }
 
-            Entity owner = this.getOwner();
-            if (!(owner instanceof MobEntity mobOwner)) {
-                return;
-            }
-
             Entity hit = entityHitResult.getEntity();
             if (!(hit instanceof LivingEntity livingTarget)) {
                 return;
             }
 
-            MobWarData data;
-            if (mobOwner instanceof IMobWarDataHolder holder) {
-                data = holder.getMobWarData();
-            } else {
-                data = MobWarData.get(mobOwner);
-            }
-
-            if (data == null) {
-                return;
-            }
-
-            ScalingSystem.applyRangedPotionEffects(mobOwner, data, livingTarget);
+            RangedHitPayload payload = ScalingSystem.resolveRangedHitPayload(this);
+            payload.applyTo(livingTarget, this.getRandom());
 
-            int piercing = ScalingSystem.getPiercingLevel(mobOwner, data);
+            int piercing = payload.piercing();
             if (piercing <= 0) {
                 return;
             }
 
+            Entity owner = this.getOwner();
             World world = this.getWorld();
             List<LivingEntity> nearby = world.getEntitiesByClass(LivingEntity.class,
                 hit.getBoundingBox().expand(2.5),
-                entity -> entity != livingTarget && entity != mobOwner && entity.isAlive());
+                entity -> entity != livingTarget && entity != owner && entity.isAlive());
 
             int applied = 0;
             for (LivingEntity extraTarget : nearby) {
-                ScalingSystem.applyRangedPotionEffects(mobOwner, data, extraTarget);
+                payload.applyTo(extraTarget, this.getRandom());
                 applied++;
                 if (applied >= piercing) {
                     break;
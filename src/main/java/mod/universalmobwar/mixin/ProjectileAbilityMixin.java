@@ -1,8 +1,10 @@
 package mod.universalmobwar.mixin;
 
 import mod.universalmobwar.UniversalMobWarMod;
+import mod.universalmobwar.bridge.ProjectileAbilityBridge;
 import mod.universalmobwar.data.IMobWarDataHolder;
 import mod.universalmobwar.data.MobWarData;
+import mod.universalmobwar.system.RangedHitPayload;
 import mod.universalmobwar.system.ScalingSystem;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -14,39 +16,46 @@ import net.minecraft.entity.projectile.ProjectileEntity;
 import net.minecraft.entity.projectile.thrown.ThrownItemEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
-import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
- * Applies scaling-system ranged abilities (multishot + extra_shot follow-up cycles)
+ * Applies scaling-system ranged abilities (piercing, multishot + extra_shot follow-up cycles)
  * to any projectile fired by a mob.
+ *
+ * Runs once, from {@link ServerWorldProjectileSpawnMixin}, when the projectile is spawned into the
+ * world, so projectiles never pay for this on their own ticks. Projectiles reloaded from disk do
+ * not go through spawning and are left as they were.
  */
 @Mixin(ProjectileEntity.class)
-public abstract class ProjectileAbilityMixin {
+public abstract class ProjectileAbilityMixin implements ProjectileAbilityBridge {
 
     @Unique
     private boolean universalmobwar$abilitiesApplied;
 
-    @Inject(method = "tick", at = @At("HEAD"))
-    private void universalmobwar$applyProjectileAbilities(CallbackInfo ci) {
-        UniversalMobWarMod.runSafely("ProjectileAbilityMixin#applyProjectileAbilities", () -> {
+    @Unique
+    private RangedHitPayload universalmobwar$hitPayload;
+
+    @Override
+    public RangedHitPayload universalmobwar$getHitPayload() {
+        return universalmobwar$hitPayload;
+    }
+
+    @Override
+    public void universalmobwar$setHitPayload(RangedHitPayload payload) {
+        universalmobwar$hitPayload = payload;
+    }
+
+    @Override
+    public void universalmobwar$onSpawned(ServerWorld serverWorld) {
+        UniversalMobWarMod.runSafely("ProjectileAbilityMixin#onSpawned", () -> {
             ProjectileEntity self = (ProjectileEntity) (Object) this;
-            World world = self.getWorld();
-            if (world.isClient() || universalmobwar$abilitiesApplied) {
+            if (universalmobwar$abilitiesApplied) {
                 return;
             }
 
             universalmobwar$abilitiesApplied = true;
 
-            if (self.getCommandTags().contains(ScalingSystem.MULTISHOT_CHILD_TAG)
-                || self.getCommandTags().contains(ScalingSystem.EXTRA_SHOT_CHILD_TAG)) {
-                return;
-            }
-
             Entity owner = self.getOwner();
             if (!(owner instanceof MobEntity mob)) {
                 return;
@@ -57,7 +66,22 @@ public abstract class ProjectileAbilityMixin {
                 return;
             }
 
-            if (!(world instanceof ServerWorld serverWorld)) {
+            // Resolve on-hit effects now so the hit needs neither the shooter nor its config.
+            // Multishot copies arrive with the payload of the arrow they were copied from.
+            if (universalmobwar$hitPayload == null) {
+                universalmobwar$hitPayload = ScalingSystem.compileRangedHitPayload(mob, data);
+            }
+
+            // Piercing applies to every arrow a mob fires, multishot and extra-shot children included.
+            if (self instanceof PersistentProjectileEntity persistent) {
+                int piercingLevel = universalmobwar$hitPayload.piercing();
+                if (piercingLevel > 0) {
+                    ((PersistentProjectileEntityAccessor) (Object) persistent).invokeSetPierceLevel((byte) Math.min(127, piercingLevel));
+                }
+            }
+
+            if (self.getCommandTags().contains(ScalingSystem.MULTISHOT_CHILD_TAG)
+                || self.getCommandTags().contains(ScalingSystem.EXTRA_SHOT_CHILD_TAG)) {
                 return;
             }
 
@@ -106,7 +130,7 @@ public abstract class ProjectileAbilityMixin {
             final double minSpeedMul = 0.90;
             final double maxSpeedMul = 1.10;
 
-            int piercingLevel = Math.max(0, ScalingSystem.getPiercingLevel(mob, data));
+            int piercingLevel = universalmobwar$hitPayload.piercing();
 
             for (int i = 0; i < extraProjectiles; i++) {
                 Entity duplicate = original.getType().create(world);
@@ -117,6 +141,7 @@ public abstract class ProjectileAbilityMixin {
                 projectile.setOwner(mob);
                 projectile.setPosition(original.getX(), original.getY(), original.getZ());
                 projectile.addCommandTag(ScalingSystem.MULTISHOT_CHILD_TAG);
+                ((ProjectileAbilityBridge) projectile).universalmobwar$setHitPayload(universalmobwar$hitPayload);
 
                 if (original instanceof ThrownItemEntity thrown && projectile instanceof ThrownItemEntity thrownCopy) {
                     thrownCopy.setItem(thrown.getStack().copy());
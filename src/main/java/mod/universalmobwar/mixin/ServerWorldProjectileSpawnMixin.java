@@ -0,0 +1,23 @@
+package mod.universalmobwar.mixin;
+
+import mod.universalmobwar.bridge.ProjectileAbilityBridge;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Hands every newly spawned projectile to ProjectileAbilityMixin exactly once.
+ */
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldProjectileSpawnMixin {
+
+    @Inject(method = "spawnEntity", at = @At("RETURN"))
+    private void universalmobwar$onProjectileSpawned(Entity entity, CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ() && entity instanceof ProjectileAbilityBridge projectile) {
+            projectile.universalmobwar$onSpawned((ServerWorld) (Object) this);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package mod.universalmobwar.system;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-entity ability timers (last-use ticks, deadlines, target immunities) indexed by
+ * {@link Timer} ordinal, so a cooldown check is a map lookup plus an array read.
+ *
+ * Every write says how long the value stays relevant ({@code keepUntilTick}). Entries are parked
+ * in a coarse timing wheel and dropped once every timer they hold is past that point, so the store
+ * only ever holds entities with a live cooldown. Reading a reclaimed timer returns the caller's
+ * default, which callers already treat as "ready". Server thread only.
+ */
+final class AbilityTimerStore {
+
+    enum Timer {
+        UNDEAD_PULSE,
+        UNDEAD_BURST_UNTIL,
+        INVIS_READY,
+        INVIS_GLOW_NEXT,
+        INVIS_GLOW_UNTIL,
+        ON_DAMAGE_REGEN,
+        HORDE_SUMMON,
+        SHADOW_STEP,
+        VOID_GRASP
+    }
+
+    private static final Timer[] TIMERS = Timer.values();
+    private static final long ABSENT = Long.MIN_VALUE;
+
+    // 64 buckets of 32 ticks: entries further out than ~100s wait in the last bucket they reach
+    // and are re-parked when it comes round.
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int BUCKET_SHIFT = 5;
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final List<UUID>[] wheel = new List[WHEEL_SIZE];
+    private long wheelBucket = Long.MIN_VALUE;
+
+    private static final class Entry {
+        final long[] values = new long[TIMERS.length];
+        long keepUntilTick = Long.MIN_VALUE;
+        long parkedBucket;
+
+        Entry() {
+            Arrays.fill(values, ABSENT);
+        }
+    }
+
+    AbilityTimerStore() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+    }
+
+    long get(UUID id, Timer timer, long defaultValue) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return defaultValue;
+        }
+        long value = entry.values[timer.ordinal()];
+        return value == ABSENT ? defaultValue : value;
+    }
+
+    boolean has(UUID id, Timer timer) {
+        Entry entry = entries.get(id);
+        return entry != null && entry.values[timer.ordinal()] != ABSENT;
+    }
+
+    void put(UUID id, Timer timer, long value, long currentTick, long keepUntilTick) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(id, entry);
+            entry.keepUntilTick = keepUntilTick;
+            park(id, entry, currentTick);
+        } else {
+            // Extending only moves the deadline; the entry is re-parked when its bucket comes up.
+            entry.keepUntilTick = Math.max(entry.keepUntilTick, keepUntilTick);
+        }
+        entry.values[timer.ordinal()] = value;
+    }
+
+    void remove(UUID id, Timer timer) {
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            entry.values[timer.ordinal()] = ABSENT;
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void clear() {
+        entries.clear();
+        for (List<UUID> bucket : wheel) {
+            bucket.clear();
+        }
+        wheelBucket = Long.MIN_VALUE;
+    }
+
+    /**
+     * Drop entries whose timers have all run out, visiting each bucket passed since the last call.
+     */
+    void advance(long currentTick) {
+        long target = currentTick >> BUCKET_SHIFT;
+        if (wheelBucket == Long.MIN_VALUE) {
+            wheelBucket = target;
+        } else if (target < wheelBucket) {
+            // Time went backwards (/time set): re-park everything against the new clock.
+            for (List<UUID> bucket : wheel) {
+                bucket.clear();
+            }
+            wheelBucket = target;
+            for (Map.Entry<UUID, Entry> entry : entries.entrySet()) {
+                park(entry.getKey(), entry.getValue(), currentTick);
+            }
+            return;
+        }
+        long steps = Math.min(WHEEL_SIZE, target - wheelBucket);
+        for (long step = 1; step <= steps; step++) {
+            long bucketIndex = wheelBucket + step;
+            List<UUID> bucket = wheel[(int) (bucketIndex & (WHEEL_SIZE - 1))];
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            List<UUID> due = new ArrayList<>(bucket);
+            bucket.clear();
+            for (UUID id : due) {
+                Entry entry = entries.get(id);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.parkedBucket > bucketIndex) {
+                    // Re-parked earlier in this sweep; not due yet.
+                    bucket.add(id);
+                    continue;
+                }
+                if (entry.keepUntilTick < currentTick) {
+                    entries.remove(id);
+                } else {
+                    park(id, entry, currentTick);
+                }
+            }
+        }
+        wheelBucket = target;
+    }
+
+    private void park(UUID id, Entry entry, long currentTick) {
+        long now = currentTick >> BUCKET_SHIFT;
+        long due = Math.max(now + 1, (entry.keepUntilTick >> BUCKET_SHIFT) + 1);
+        due = Math.min(due, now + WHEEL_SIZE - 1);
+        entry.parkedBucket = due;
+        wheel[(int) (due & (WHEEL_SIZE - 1))].add(id);
+    }
+}
@@ -0,0 +1,96 @@
+package mod.universalmobwar.system;
+
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the creeper_potion_cloud bursts of one tick and applies them together at the end of it.
+ *
+ * A chain of upgraded creepers going off together used to run one entity query per creeper and
+ * re-read the JSON effect list for every player caught in each burst. Here each burst arrives with
+ * its effect list already resolved, all bursts in a world share one pass over that world's
+ * players, and a player standing in several overlapping bursts gets each effect once, at the
+ * strongest level and longest duration among them. Server thread only.
+ */
+public final class CreeperCloudBatch {
+
+    // Bursts reach players whose bounding box is within this many blocks of the explosion block.
+    private static final double CLOUD_RADIUS = 5.0;
+
+    record CloudEffect(RegistryEntry<StatusEffect> effect, int durationTicks, int amplifier) {}
+
+    private record Cloud(Box area, List<CloudEffect> effects) {}
+
+    private static final Map<ServerWorld, List<Cloud>> PENDING = new IdentityHashMap<>();
+
+    private CreeperCloudBatch() {
+    }
+
+    static void stage(ServerWorld world, BlockPos pos, List<CloudEffect> effects) {
+        if (effects.isEmpty()) {
+            return;
+        }
+        PENDING.computeIfAbsent(world, w -> new ArrayList<>())
+            .add(new Cloud(new Box(pos).expand(CLOUD_RADIUS), effects));
+    }
+
+    public static void flush() {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        Map<ServerWorld, List<Cloud>> pending = new IdentityHashMap<>(PENDING);
+        PENDING.clear();
+        for (Map.Entry<ServerWorld, List<Cloud>> entry : pending.entrySet()) {
+            List<Cloud> clouds = entry.getValue();
+            for (ServerPlayerEntity player : entry.getKey().getPlayers()) {
+                applyClouds(player, clouds);
+            }
+        }
+    }
+
+    public static void clear() {
+        PENDING.clear();
+    }
+
+    private static void applyClouds(PlayerEntity player, List<Cloud> clouds) {
+        Box bounds = player.getBoundingBox();
+        Map<RegistryEntry<StatusEffect>, CloudEffect> strongest = null;
+        for (Cloud cloud : clouds) {
+            if (!cloud.area().intersects(bounds)) {
+                continue;
+            }
+            if (strongest == null) {
+                strongest = new HashMap<>();
+            }
+            for (CloudEffect effect : cloud.effects()) {
+                strongest.merge(effect.effect(), effect, CreeperCloudBatch::stronger);
+            }
+        }
+        if (strongest == null) {
+            return;
+        }
+        for (CloudEffect effect : strongest.values()) {
+            player.addStatusEffect(new StatusEffectInstance(
+                effect.effect(), effect.durationTicks(), effect.amplifier(), false, true, true));
+        }
+    }
+
+    private static CloudEffect stronger(CloudEffect a, CloudEffect b) {
+        if (a.amplifier() != b.amplifier()) {
+            return a.amplifier() > b.amplifier() ? a : b;
+        }
+        return a.durationTicks() >= b.durationTicks() ? a : b;
+    }
+}
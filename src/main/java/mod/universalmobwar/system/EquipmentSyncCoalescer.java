@@ -0,0 +1,88 @@
+package mod.universalmobwar.system;
+
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.item.ItemStack;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Collects the equipment ScalingSystem hands out during a tick and puts it on the mobs once, at
+ * the end of the tick.
+ *
+ * Every equipStack plays the equip sound, emits a game event and dirties the slot for vanilla's
+ * equipment sync. An upgrade pass may clear and refill a slot, and spawn bursts or raids equip
+ * hundreds of mobs in the same tick; staging keeps only the final stack per slot, and slots that
+ * end up identical to what the mob already wears are not touched at all. While staged, reads
+ * through {@link #getEquipped} see the pending stack.
+ *
+ * Any direct equipStack on a slot (clears, drops, pickups) discards what is staged for it, so a
+ * later flush never undoes a write that happened after staging. Server thread only.
+ */
+public final class EquipmentSyncCoalescer {
+
+    private static final Map<MobEntity, EnumMap<EquipmentSlot, ItemStack>> STAGED = new IdentityHashMap<>();
+
+    private EquipmentSyncCoalescer() {
+    }
+
+    static void stage(MobEntity mob, EquipmentSlot slot, ItemStack stack) {
+        STAGED.computeIfAbsent(mob, m -> new EnumMap<>(EquipmentSlot.class)).put(slot, stack);
+    }
+
+    /**
+     * Forget the staged stack for one slot. Called for every direct equipStack (see MobDataMixin).
+     */
+    public static void discard(MobEntity mob, EquipmentSlot slot) {
+        if (STAGED.isEmpty()) {
+            return;
+        }
+        EnumMap<EquipmentSlot, ItemStack> slots = STAGED.get(mob);
+        if (slots != null && slots.remove(slot) != null && slots.isEmpty()) {
+            STAGED.remove(mob);
+        }
+    }
+
+    static ItemStack getEquipped(MobEntity mob, EquipmentSlot slot) {
+        if (!STAGED.isEmpty()) {
+            EnumMap<EquipmentSlot, ItemStack> slots = STAGED.get(mob);
+            if (slots != null) {
+                ItemStack staged = slots.get(slot);
+                if (staged != null) {
+                    return staged;
+                }
+            }
+        }
+        return mob.getEquippedStack(slot);
+    }
+
+    /**
+     * Equip every staged stack that differs from what its mob currently wears. Mobs removed or dead
+     * since staging are skipped, so nothing is equipped on a mob that already dropped its loot.
+     */
+    public static void flush() {
+        if (STAGED.isEmpty()) {
+            return;
+        }
+        // Copy out first: equipStack can re-enter ScalingSystem through the mixins.
+        Map<MobEntity, EnumMap<EquipmentSlot, ItemStack>> pending = new IdentityHashMap<>(STAGED);
+        STAGED.clear();
+        for (Map.Entry<MobEntity, EnumMap<EquipmentSlot, ItemStack>> entry : pending.entrySet()) {
+            MobEntity mob = entry.getKey();
+            if (mob.isRemoved() || !mob.isAlive()) {
+                continue;
+            }
+            for (Map.Entry<EquipmentSlot, ItemStack> slot : entry.getValue().entrySet()) {
+                if (!ItemStack.areEqual(mob.getEquippedStack(slot.getKey()), slot.getValue())) {
+                    mob.equipStack(slot.getKey(), slot.getValue());
+                }
+            }
+        }
+    }
+
+    public static void clear() {
+        STAGED.clear();
+    }
+}
@@ -0,0 +1,144 @@
+package mod.universalmobwar.system;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Live horde reinforcements counted per 64-block region, plus a token bucket per region that paces
+ * how fast new reinforcements may be summoned there.
+ *
+ * Reinforcements are counted in the region they were loaded in (where the fight is) and dropped
+ * again when they die or unload, so the horde cap check is a 3x3 region sum instead of an entity
+ * scan. The bucket keeps a pile of summoners in one fight from chain-summoning faster than
+ * {@link #SPAWN_BURST} at once and one more every {@link #SPAWN_REFILL_TICKS}. Server thread only.
+ */
+public final class HordeRegionIndex {
+
+    private static final int REGION_SHIFT = 6;
+    private static final double SPAWN_BURST = 3.0;
+    private static final long SPAWN_REFILL_TICKS = 100L;
+    private static final int BUCKET_PRUNE_THRESHOLD = 256;
+
+    private static final Map<World, Map<Long, int[]>> MEMBER_COUNTS = new HashMap<>();
+    private static final Map<World, Map<Long, SpawnBucket>> SPAWN_BUCKETS = new HashMap<>();
+    private static final Map<UUID, Member> MEMBERS = new HashMap<>();
+
+    private record Member(World world, long region) {}
+
+    private static final class SpawnBucket {
+        double tokens = SPAWN_BURST;
+        long refilledAtTick;
+
+        SpawnBucket(long currentTick) {
+            this.refilledAtTick = currentTick;
+        }
+
+        void refill(long currentTick) {
+            long elapsed = currentTick - refilledAtTick;
+            if (elapsed > 0L) {
+                tokens = Math.min(SPAWN_BURST, tokens + (double) elapsed / SPAWN_REFILL_TICKS);
+            }
+            refilledAtTick = currentTick;
+        }
+    }
+
+    private HordeRegionIndex() {
+    }
+
+    public static void onMobLoaded(ServerWorld world, MobEntity mob) {
+        if (!ScalingSystem.isHordeReinforcement(mob) || MEMBERS.containsKey(mob.getUuid())) {
+            return;
+        }
+        long region = regionOf(mob.getBlockPos());
+        MEMBERS.put(mob.getUuid(), new Member(world, region));
+        MEMBER_COUNTS.computeIfAbsent(world, w -> new HashMap<>())
+            .computeIfAbsent(region, r -> new int[1])[0]++;
+    }
+
+    public static void onMobUnloaded(MobEntity mob) {
+        if (MEMBERS.isEmpty()) {
+            return;
+        }
+        Member member = MEMBERS.remove(mob.getUuid());
+        if (member == null) {
+            return;
+        }
+        Map<Long, int[]> counts = MEMBER_COUNTS.get(member.world());
+        if (counts == null) {
+            return;
+        }
+        int[] count = counts.get(member.region());
+        if (count != null && --count[0] <= 0) {
+            counts.remove(member.region());
+        }
+    }
+
+    /**
+     * Reinforcements counted in the region around {@code pos} and its eight neighbours.
+     */
+    static int countNear(ServerWorld world, BlockPos pos) {
+        Map<Long, int[]> counts = MEMBER_COUNTS.get(world);
+        if (counts == null || counts.isEmpty()) {
+            return 0;
+        }
+        int regionX = pos.getX() >> REGION_SHIFT;
+        int regionZ = pos.getZ() >> REGION_SHIFT;
+        int total = 0;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                int[] count = counts.get(ChunkPos.toLong(regionX + dx, regionZ + dz));
+                if (count != null) {
+                    total += count[0];
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Take one summon token from the region around {@code pos}. Returns false when the region is
+     * summoning too fast and this reinforcement should be skipped.
+     */
+    static boolean tryAcquireSpawn(ServerWorld world, BlockPos pos, long currentTick) {
+        Map<Long, SpawnBucket> buckets = SPAWN_BUCKETS.computeIfAbsent(world, w -> new HashMap<>());
+        if (buckets.size() > BUCKET_PRUNE_THRESHOLD) {
+            pruneFullBuckets(buckets, currentTick);
+        }
+        SpawnBucket bucket = buckets.computeIfAbsent(regionOf(pos), r -> new SpawnBucket(currentTick));
+        bucket.refill(currentTick);
+        if (bucket.tokens < 1.0) {
+            return false;
+        }
+        bucket.tokens -= 1.0;
+        return true;
+    }
+
+    public static void clear() {
+        MEMBER_COUNTS.clear();
+        SPAWN_BUCKETS.clear();
+        MEMBERS.clear();
+    }
+
+    private static void pruneFullBuckets(Map<Long, SpawnBucket> buckets, long currentTick) {
+        Iterator<SpawnBucket> iterator = buckets.values().iterator();
+        while (iterator.hasNext()) {
+            SpawnBucket bucket = iterator.next();
+            bucket.refill(currentTick);
+            if (bucket.tokens >= SPAWN_BURST) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static long regionOf(BlockPos pos) {
+        return ChunkPos.toLong(pos.getX() >> REGION_SHIFT, pos.getZ() >> REGION_SHIFT);
+    }
+}
@@ -0,0 +1,324 @@
+package mod.universalmobwar.system;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary cache of the parsed mob_configs, compiled on first run and memory-mapped afterwards.
+ *
+ * Layout: a 16-byte header (magic, format version, table length, payload length), a string
+ * table plus per-file index read onto the heap, then the payload of encoded JSON trees which is
+ * mapped read-only. Every distinct string and number literal is stored once and decoded into a
+ * single shared JsonPrimitive, so the configs no longer each retain their own copies of
+ * "cost", "level", 1, 2, ...
+ *
+ * Each index entry carries the CRC32 and size of the JSON file it was built from. A bundle is
+ * only used when every entry still matches its file; otherwise the caller parses JSON and rewrites
+ * it. Files that failed to parse are left out, so a bundle may cover only some of the requested
+ * files and the rest are parsed from JSON (and retried) on every load.
+ */
+final class MobConfigBundle {
+
+    private static final int MAGIC = 0x554D5742; // "UMWB"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_STRING = 3;
+    private static final byte TAG_NUMBER = 4;
+    private static final byte TAG_ARRAY = 5;
+    private static final byte TAG_OBJECT = 6;
+
+    private static final byte KIND_STRING = 0;
+    private static final byte KIND_NUMBER = 1;
+
+    record SourceStamp(int crc, int sizeBytes) {}
+
+    private record Entry(SourceStamp stamp, int offset, int length) {}
+
+    private final Map<String, Entry> entries;
+    private final String[] strings;
+    private final JsonPrimitive[] primitives;
+    private final ByteBuffer payload;
+
+    private MobConfigBundle(Map<String, Entry> entries, String[] strings, JsonPrimitive[] primitives, ByteBuffer payload) {
+        this.entries = entries;
+        this.strings = strings;
+        this.primitives = primitives;
+        this.payload = payload;
+    }
+
+    /**
+     * Open the bundle at {@code path} if every entry in it was built from the current version of
+     * one of {@code sources}. Returns null when the file is missing, was written by another format
+     * version, or any fingerprint differs; the payload is only mapped once the index has been
+     * validated.
+     */
+    static MobConfigBundle open(Path path, Map<String, SourceStamp> sources) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, 0L, HEADER_BYTES);
+            if (header == null || header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int tableLength = header.getInt();
+            int payloadLength = header.getInt();
+            if (tableLength < 0 || payloadLength < 0
+                || channel.size() != (long) HEADER_BYTES + tableLength + payloadLength) {
+                return null;
+            }
+
+            ByteBuffer table = readFully(channel, HEADER_BYTES, tableLength);
+            if (table == null) {
+                return null;
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(table.array()));
+
+            int entryCount = in.readInt();
+            if (entryCount < 0 || entryCount > sources.size()) {
+                return null;
+            }
+            Map<String, Entry> entries = new HashMap<>(entryCount * 2);
+            for (int i = 0; i < entryCount; i++) {
+                String name = in.readUTF();
+                SourceStamp stamp = new SourceStamp(in.readInt(), in.readInt());
+                Entry entry = new Entry(stamp, in.readInt(), in.readInt());
+                if (!stamp.equals(sources.get(name))
+                    || entry.offset() < 0 || entry.length() < 0 || entry.offset() + entry.length() > payloadLength) {
+                    return null;
+                }
+                entries.put(name, entry);
+            }
+
+            int stringCount = in.readInt();
+            String[] strings = new String[stringCount];
+            JsonPrimitive[] primitives = new JsonPrimitive[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                byte kind = in.readByte();
+                strings[i] = in.readUTF();
+                primitives[i] = kind == KIND_NUMBER
+                    // Parse number literals exactly as Gson would so equals/hashCode (and therefore
+                    // MobConfigRevision fingerprints) are identical to the JSON path.
+                    ? JsonParser.parseString(strings[i]).getAsJsonPrimitive()
+                    : new JsonPrimitive(strings[i]);
+            }
+
+            ByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, (long) HEADER_BYTES + tableLength, payloadLength);
+            return new MobConfigBundle(entries, strings, primitives, payload);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Decode one config. Safe to call from several loader threads at once.
+     */
+    boolean contains(String resourceName) {
+        return entries.containsKey(resourceName);
+    }
+
+    JsonObject read(String resourceName) {
+        Entry entry = entries.get(resourceName);
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer buffer = payload.slice(entry.offset(), entry.length());
+        JsonElement element = decode(buffer);
+        return element.isJsonObject() ? element.getAsJsonObject() : null;
+    }
+
+    private JsonElement decode(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case TAG_NULL:
+                return JsonNull.INSTANCE;
+            case TAG_TRUE:
+                return new JsonPrimitive(Boolean.TRUE);
+            case TAG_FALSE:
+                return new JsonPrimitive(Boolean.FALSE);
+            case TAG_STRING:
+            case TAG_NUMBER:
+                return primitives[readVarInt(buffer)];
+            case TAG_ARRAY: {
+                int size = readVarInt(buffer);
+                JsonArray array = new JsonArray(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(decode(buffer));
+                }
+                return array;
+            }
+            case TAG_OBJECT: {
+                int size = readVarInt(buffer);
+                JsonObject object = new JsonObject();
+                for (int i = 0; i < size; i++) {
+                    String key = strings[readVarInt(buffer)];
+                    object.add(key, decode(buffer));
+                }
+                return object;
+            }
+            default:
+                throw new IllegalStateException("Unknown bundle tag " + tag);
+        }
+    }
+
+    /**
+     * Compile {@code configs} (resource name to parsed JSON, in load order) into a new bundle.
+     * Written to a temp file and moved into place so a crash never leaves a torn bundle behind.
+     */
+    static void write(Path path, Map<String, JsonObject> configs, Map<String, SourceStamp> sources) throws IOException {
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<String> stringTable = new ArrayList<>();
+        List<Byte> stringKinds = new ArrayList<>();
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        Map<String, int[]> ranges = new LinkedHashMap<>();
+
+        for (Map.Entry<String, JsonObject> config : configs.entrySet()) {
+            int start = payload.size();
+            encode(config.getValue(), payload, stringIndex, stringTable, stringKinds);
+            ranges.put(config.getKey(), new int[]{start, payload.size() - start});
+        }
+
+        ByteArrayOutputStream tableBytes = new ByteArrayOutputStream();
+        DataOutputStream table = new DataOutputStream(tableBytes);
+        table.writeInt(ranges.size());
+        for (Map.Entry<String, int[]> range : ranges.entrySet()) {
+            SourceStamp stamp = sources.get(range.getKey());
+            table.writeUTF(range.getKey());
+            table.writeInt(stamp.crc());
+            table.writeInt(stamp.sizeBytes());
+            table.writeInt(range.getValue()[0]);
+            table.writeInt(range.getValue()[1]);
+        }
+        table.writeInt(stringTable.size());
+        for (int i = 0; i < stringTable.size(); i++) {
+            table.writeByte(stringKinds.get(i));
+            table.writeUTF(stringTable.get(i));
+        }
+        table.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(tableBytes.size()).putInt(payload.size());
+
+        Files.createDirectories(path.getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            header.flip();
+            writeFully(channel, header);
+            writeFully(channel, ByteBuffer.wrap(tableBytes.toByteArray()));
+            writeFully(channel, ByteBuffer.wrap(payload.toByteArray()));
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void encode(JsonElement element, ByteArrayOutputStream out, Map<String, Integer> stringIndex,
+                               List<String> stringTable, List<Byte> stringKinds) {
+        if (element == null || element.isJsonNull()) {
+            out.write(TAG_NULL);
+        } else if (element.isJsonObject()) {
+            out.write(TAG_OBJECT);
+            writeVarInt(out, element.getAsJsonObject().size());
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                writeVarInt(out, intern(entry.getKey(), KIND_STRING, stringIndex, stringTable, stringKinds));
+                encode(entry.getValue(), out, stringIndex, stringTable, stringKinds);
+            }
+        } else if (element.isJsonArray()) {
+            out.write(TAG_ARRAY);
+            writeVarInt(out, element.getAsJsonArray().size());
+            for (JsonElement child : element.getAsJsonArray()) {
+                encode(child, out, stringIndex, stringTable, stringKinds);
+            }
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                out.write(primitive.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+            } else if (primitive.isNumber()) {
+                out.write(TAG_NUMBER);
+                writeVarInt(out, intern(primitive.getAsString(), KIND_NUMBER, stringIndex, stringTable, stringKinds));
+            } else {
+                out.write(TAG_STRING);
+                writeVarInt(out, intern(primitive.getAsString(), KIND_STRING, stringIndex, stringTable, stringKinds));
+            }
+        }
+    }
+
+    private static int intern(String value, byte kind, Map<String, Integer> stringIndex,
+                              List<String> stringTable, List<Byte> stringKinds) {
+        // Numbers and strings live in separate slots: "1" the string and 1 the number must not share a primitive.
+        String key = kind == KIND_NUMBER ? "#" + value : "$" + value;
+        Integer existing = stringIndex.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int index = stringTable.size();
+        stringTable.add(value);
+        stringKinds.add(kind);
+        stringIndex.put(key, index);
+        return index;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return null;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
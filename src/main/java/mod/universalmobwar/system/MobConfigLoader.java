@@ -0,0 +1,259 @@
+package mod.universalmobwar.system;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import mod.universalmobwar.UniversalMobWarMod;
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and parses mob_configs/*.json on a small, short-lived worker pool, preferring the
+ * precompiled {@link MobConfigBundle} when it matches the shipped files.
+ * Registration into ScalingSystem's lookup maps stays on the caller so ordering is deterministic.
+ */
+final class MobConfigLoader {
+
+    private static final Gson GSON = new Gson();
+    private static final int MAX_LOADER_THREADS = 4;
+    private static final int SLOWEST_FILES_IN_SUMMARY = 5;
+    private static final String BUNDLE_FILE_NAME = "mob_configs.bin";
+
+    private MobConfigLoader() {
+    }
+
+    record ParsedConfig(String resourceName, JsonObject config, long parseNanos, int sizeBytes) {}
+
+    private record SourceFile(String resourceName, byte[] bytes, MobConfigBundle.SourceStamp stamp, long readNanos) {}
+
+    record LoadReport(List<ParsedConfig> configs, List<String> failures, long wallNanos, int threads, boolean fromBundle) {
+
+        /**
+         * Summary at info (total, wall time, slowest files); the full per-file table at debug.
+         */
+        void log(String action) {
+            long parseNanosTotal = 0L;
+            long bytesTotal = 0L;
+            for (ParsedConfig parsed : configs) {
+                parseNanosTotal += parsed.parseNanos();
+                bytesTotal += parsed.sizeBytes();
+            }
+
+            List<ParsedConfig> bySlowest = new ArrayList<>(configs);
+            bySlowest.sort(Comparator.comparingLong(ParsedConfig::parseNanos).reversed());
+            StringBuilder slowest = new StringBuilder();
+            for (int i = 0; i < Math.min(SLOWEST_FILES_IN_SUMMARY, bySlowest.size()); i++) {
+                ParsedConfig parsed = bySlowest.get(i);
+                if (i > 0) {
+                    slowest.append(", ");
+                }
+                slowest.append(parsed.resourceName()).append(' ').append(formatMillis(parsed.parseNanos())).append("ms");
+            }
+
+            UniversalMobWarMod.LOGGER.info(
+                "[ScalingSystem] {} {} mob configurations ({} KB, {}) in {}ms wall / {}ms parse on {} thread(s); slowest: {}",
+                action,
+                configs.size(),
+                bytesTotal / 1024,
+                fromBundle ? "binary bundle" : "JSON",
+                formatMillis(wallNanos),
+                formatMillis(parseNanosTotal),
+                threads,
+                slowest
+            );
+            if (!failures.isEmpty()) {
+                UniversalMobWarMod.LOGGER.warn("[ScalingSystem] {} mob config(s) failed to load: {}", failures.size(), failures);
+            }
+            if (UniversalMobWarMod.LOGGER.isDebugEnabled()) {
+                for (ParsedConfig parsed : bySlowest) {
+                    UniversalMobWarMod.LOGGER.debug("[ScalingSystem]   {} {}ms ({} bytes)",
+                        parsed.resourceName(), formatMillis(parsed.parseNanos()), parsed.sizeBytes());
+                }
+            }
+        }
+    }
+
+    /**
+     * Load every named resource in parallel. Results keep the order of {@code resourceNames}.
+     *
+     * Sources are read and fingerprinted first; when the binary bundle was built from exactly
+     * those bytes the configs are decoded from it, otherwise every file goes through Gson and
+     * the bundle is rewritten for next time.
+     */
+    static LoadReport loadAll(List<String> resourceNames) {
+        long started = System.nanoTime();
+        if (resourceNames == null || resourceNames.isEmpty()) {
+            return new LoadReport(Collections.emptyList(), Collections.emptyList(), 0L, 0, false);
+        }
+
+        int threads = Math.max(1, Math.min(MAX_LOADER_THREADS,
+            Math.min(resourceNames.size(), Runtime.getRuntime().availableProcessors() - 1)));
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "umw-config-loader");
+            thread.setDaemon(true);
+            return thread;
+        };
+        ExecutorService pool = Executors.newFixedThreadPool(threads, factory);
+
+        List<ParsedConfig> configs = new ArrayList<>(resourceNames.size());
+        List<String> failures = new ArrayList<>();
+        boolean fromBundle = false;
+        try {
+            List<Callable<SourceFile>> reads = new ArrayList<>(resourceNames.size());
+            for (String resourceName : resourceNames) {
+                reads.add(() -> readSource(resourceName));
+            }
+            List<Future<SourceFile>> readFutures = pool.invokeAll(reads);
+            List<SourceFile> sources = new ArrayList<>(resourceNames.size());
+            Map<String, MobConfigBundle.SourceStamp> stamps = new LinkedHashMap<>();
+            for (int i = 0; i < readFutures.size(); i++) {
+                SourceFile source = getOrLog(readFutures.get(i), resourceNames.get(i));
+                if (source == null) {
+                    failures.add(resourceNames.get(i));
+                    continue;
+                }
+                sources.add(source);
+                stamps.put(source.resourceName(), source.stamp());
+            }
+
+            MobConfigBundle bundle = openBundle(stamps);
+            fromBundle = bundle != null;
+            List<Callable<ParsedConfig>> tasks = new ArrayList<>(sources.size());
+            for (SourceFile source : sources) {
+                tasks.add(() -> decode(source, bundle));
+            }
+            List<Future<ParsedConfig>> futures = pool.invokeAll(tasks);
+            boolean bundleStale = bundle == null;
+            for (int i = 0; i < futures.size(); i++) {
+                String resourceName = sources.get(i).resourceName();
+                ParsedConfig parsed = getOrLog(futures.get(i), resourceName);
+                if (parsed != null) {
+                    configs.add(parsed);
+                    bundleStale = bundleStale || !bundle.contains(resourceName);
+                } else {
+                    failures.add(resourceName);
+                }
+            }
+
+            // Failed files stay out of the bundle so the next load parses them from JSON again.
+            if (bundleStale && !configs.isEmpty()) {
+                if (!failures.isEmpty()) {
+                    UniversalMobWarMod.LOGGER.warn("[ScalingSystem] Writing config bundle without {} failed file(s): {}",
+                        failures.size(), failures);
+                }
+                writeBundle(configs, stamps);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            UniversalMobWarMod.LOGGER.warn("[ScalingSystem] Interrupted while loading mob configs");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return new LoadReport(configs, failures, System.nanoTime() - started, threads, fromBundle);
+    }
+
+    private static <T> T getOrLog(Future<T> future, String resourceName) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            UniversalMobWarMod.LOGGER.error("[ScalingSystem] Failed to load /mob_configs/{}.json: {}",
+                resourceName, cause.getMessage());
+            return null;
+        }
+    }
+
+    private static SourceFile readSource(String resourceName) throws IOException {
+        long started = System.nanoTime();
+        String path = "/mob_configs/" + resourceName + ".json";
+        byte[] bytes;
+        try (InputStream is = MobConfigLoader.class.getResourceAsStream(path)) {
+            if (is == null) {
+                UniversalMobWarMod.LOGGER.warn("[ScalingSystem] Config not found: {}", path);
+                return null;
+            }
+            bytes = is.readAllBytes();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return new SourceFile(resourceName, bytes,
+            new MobConfigBundle.SourceStamp((int) crc.getValue(), bytes.length), System.nanoTime() - started);
+    }
+
+    /**
+     * Decode from the bundle when one is available, falling back to Gson for this file if the
+     * bundle entry turns out to be unreadable.
+     */
+    private static ParsedConfig decode(SourceFile source, MobConfigBundle bundle) {
+        long started = System.nanoTime();
+        JsonObject config = null;
+        if (bundle != null) {
+            try {
+                config = bundle.read(source.resourceName());
+            } catch (RuntimeException e) {
+                UniversalMobWarMod.LOGGER.warn("[ScalingSystem] Config bundle entry {} unreadable, parsing JSON: {}",
+                    source.resourceName(), e.getMessage());
+            }
+        }
+        if (config == null) {
+            config = GSON.fromJson(new String(source.bytes(), StandardCharsets.UTF_8), JsonObject.class);
+        }
+        if (config == null || !config.has("mob_name") || !config.has("entity_class")) {
+            return null;
+        }
+        return new ParsedConfig(source.resourceName(), config,
+            source.readNanos() + System.nanoTime() - started, source.bytes().length);
+    }
+
+    private static MobConfigBundle openBundle(Map<String, MobConfigBundle.SourceStamp> stamps) {
+        try {
+            MobConfigBundle bundle = MobConfigBundle.open(getBundlePath(), stamps);
+            if (bundle == null) {
+                UniversalMobWarMod.LOGGER.debug("[ScalingSystem] Config bundle missing or stale; parsing JSON");
+            }
+            return bundle;
+        } catch (IOException | RuntimeException e) {
+            UniversalMobWarMod.LOGGER.warn("[ScalingSystem] Could not open config bundle, parsing JSON: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeBundle(List<ParsedConfig> configs, Map<String, MobConfigBundle.SourceStamp> stamps) {
+        Map<String, JsonObject> byName = new LinkedHashMap<>();
+        for (ParsedConfig parsed : configs) {
+            byName.put(parsed.resourceName(), parsed.config());
+        }
+        try {
+            MobConfigBundle.write(getBundlePath(), byName, stamps);
+        } catch (IOException | RuntimeException e) {
+            // Not fatal: JSON stays the source of truth and the next load tries again.
+            UniversalMobWarMod.LOGGER.warn("[ScalingSystem] Could not write config bundle: {}", e.getMessage());
+        }
+    }
+
+    private static Path getBundlePath() {
+        return FabricLoader.getInstance().getConfigDir().resolve(UniversalMobWarMod.MODID).resolve(BUNDLE_FILE_NAME);
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,221 @@
+package mod.universalmobwar.system;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled view of one loaded mob config: a fingerprint for the whole file plus one hash per
+ * skill node, so a reload can tell exactly which parts of a mob type changed.
+ *
+ * Node paths are the top-level keys ("point_system", "mob_type", ...) and the entries under
+ * "tree". Potion effect sections and special_abilities are split one level further
+ * ("tree.special_abilities.horde_summon") because each child maps to exactly one skill key.
+ */
+final class MobConfigRevision {
+
+    static final String NODE_POINT_SYSTEM = "point_system";
+    static final String NODE_TREE_NAME = "tree_name";
+
+    private static final String TREE_PREFIX = "tree.";
+    private static final String[] LEAF_SECTIONS = {
+        "passive_potion_effects",
+        "hostile_neutral_potion_effects",
+        "special_abilities"
+    };
+
+    private final String configKey;
+    private final JsonObject config;
+    private final long fingerprint;
+    private final Map<String, Integer> nodeHashes;
+
+    private MobConfigRevision(String configKey, JsonObject config, long fingerprint, Map<String, Integer> nodeHashes) {
+        this.configKey = configKey;
+        this.config = config;
+        this.fingerprint = fingerprint;
+        this.nodeHashes = nodeHashes;
+    }
+
+    /**
+     * Hashes the config structurally (Gson elements hash by value), which avoids serializing the
+     * whole tree back to a string just to detect edits.
+     */
+    static MobConfigRevision compile(String configKey, JsonObject config) {
+        Map<String, Integer> nodes = new HashMap<>();
+        if (config != null) {
+            for (Map.Entry<String, JsonElement> entry : config.entrySet()) {
+                if ("tree".equals(entry.getKey()) && entry.getValue().isJsonObject()) {
+                    collectTreeNodes(entry.getValue().getAsJsonObject(), nodes);
+                } else {
+                    nodes.put(entry.getKey(), hashElement(entry.getValue()));
+                }
+            }
+        }
+        return new MobConfigRevision(configKey, config, digest64(config), Collections.unmodifiableMap(nodes));
+    }
+
+    /**
+     * 64-bit structural digest of a JSON tree: every element is folded in with its kind and
+     * position (object keys, array order), and each step goes through a full 64-bit mix, so unlike
+     * Gson's additive int hashes reordered or swapped values don't cancel out.
+     */
+    private static long digest64(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return mix64(0x6a09e667f3bcc909L);
+        }
+        if (element.isJsonObject()) {
+            long hash = mix64(0xbb67ae8584caa73bL);
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                hash = mix64(hash ^ mix64(stringDigest(entry.getKey()) + digest64(entry.getValue())));
+            }
+            return hash;
+        }
+        if (element.isJsonArray()) {
+            long hash = mix64(0x3c6ef372fe94f82bL);
+            for (JsonElement child : element.getAsJsonArray()) {
+                hash = mix64(hash ^ digest64(child));
+            }
+            return hash;
+        }
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isNumber()) {
+            // By value, so 1 and 1.0 digest alike (Gson treats them as equal too)
+            return mix64(0xa54ff53a5f1d36f1L ^ Double.doubleToLongBits(primitive.getAsDouble()));
+        }
+        if (primitive.isBoolean()) {
+            return mix64(primitive.getAsBoolean() ? 0x510e527fade682d1L : 0x9b05688c2b3e6c1fL);
+        }
+        return mix64(0x1f83d9abfb41bd6bL ^ stringDigest(primitive.getAsString()));
+    }
+
+    private static long stringDigest(String value) {
+        long hash = 0xcbf29ce484222325L; // FNV-1a 64
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix64(long z) {
+        // SplitMix64 finalizer
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static void collectTreeNodes(JsonObject tree, Map<String, Integer> nodes) {
+        for (Map.Entry<String, JsonElement> entry : tree.entrySet()) {
+            String section = entry.getKey();
+            JsonElement value = entry.getValue();
+            if (isLeafSection(section) && value.isJsonObject()) {
+                String sectionPath = TREE_PREFIX + section + ".";
+                for (Map.Entry<String, JsonElement> child : value.getAsJsonObject().entrySet()) {
+                    nodes.put(sectionPath + child.getKey(), hashElement(child.getValue()));
+                }
+            } else {
+                nodes.put(TREE_PREFIX + section, hashElement(value));
+            }
+        }
+    }
+
+    private static boolean isLeafSection(String section) {
+        for (String leaf : LEAF_SECTIONS) {
+            if (leaf.equals(section)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int hashElement(JsonElement element) {
+        return element == null ? 0 : element.hashCode();
+    }
+
+    String configKey() {
+        return configKey;
+    }
+
+    JsonObject config() {
+        return config;
+    }
+
+    long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the node paths whose content differs between {@code previous} and this revision,
+     * including nodes that were added or removed.
+     */
+    List<String> diff(MobConfigRevision previous) {
+        if (previous == null) {
+            return new ArrayList<>(nodeHashes.keySet());
+        }
+        Set<String> allNodes = new LinkedHashSet<>(previous.nodeHashes.keySet());
+        allNodes.addAll(nodeHashes.keySet());
+        List<String> changed = new ArrayList<>();
+        for (String node : allNodes) {
+            Integer before = previous.nodeHashes.get(node);
+            Integer after = nodeHashes.get(node);
+            if (before == null || !before.equals(after)) {
+                changed.add(node);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Resolves the level array behind a leaf node path such as "tree.special_abilities.cleave".
+     * Returns null when the node is not a leaf skill or no longer exists.
+     */
+    JsonArray getLeafLevels(String nodePath) {
+        String section = getLeafSection(nodePath);
+        if (section == null || config == null || !config.has("tree")) {
+            return null;
+        }
+        JsonObject tree = config.getAsJsonObject("tree");
+        if (!tree.has(section) || !tree.get(section).isJsonObject()) {
+            return null;
+        }
+        JsonElement levels = tree.getAsJsonObject(section).get(getLeafName(nodePath));
+        return levels != null && levels.isJsonArray() ? levels.getAsJsonArray() : null;
+    }
+
+    static String getLeafSection(String nodePath) {
+        if (nodePath == null || !nodePath.startsWith(TREE_PREFIX)) {
+            return null;
+        }
+        int split = nodePath.indexOf('.', TREE_PREFIX.length());
+        if (split < 0) {
+            return null;
+        }
+        String section = nodePath.substring(TREE_PREFIX.length(), split);
+        return isLeafSection(section) ? section : null;
+    }
+
+    static String getLeafName(String nodePath) {
+        return nodePath.substring(nodePath.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Skill key stored in MobWarData for a leaf node, or null for non-leaf nodes.
+     */
+    static String getLeafSkillKey(String nodePath) {
+        String section = getLeafSection(nodePath);
+        if (section == null) {
+            return null;
+        }
+        String prefix = "special_abilities".equals(section) ? "ability_" : "effect_";
+        return prefix + getLeafName(nodePath);
+    }
+}
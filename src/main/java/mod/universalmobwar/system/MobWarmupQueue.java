@@ -0,0 +1,157 @@
+package mod.universalmobwar.system;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Admits freshly loaded mobs into full mod processing at a bounded rate.
+ *
+ * Flying into new terrain loads whole chunks of mobs in one tick; without this every one of them
+ * attaches goals and runs its first scaling pass (fingerprint, day points, upgrade check) in that
+ * same tick. Mobs wait here until {@link #drain} admits them, nearest to a player first, and
+ * {@link #isWarming} keeps ScalingSystem away from them meanwhile. Freshly spawned mobs skip the
+ * queue: they are few per tick and need their spawn-time gear and scaling pass right away.
+ * Server thread only.
+ */
+public final class MobWarmupQueue {
+
+    // Anything waiting this long is admitted ahead of closer mobs so distant ones cannot starve.
+    private static final long MAX_WAIT_TICKS = 100L;
+
+    private static final Map<UUID, Pending> PENDING = new LinkedHashMap<>();
+
+    // Mobs initialized for spawning this tick (see markSpawned); cleared at every drain.
+    private static final Set<UUID> SPAWNED_THIS_TICK = new HashSet<>();
+
+    // Distance to the nearest player is taken once, when the mob is queued; a burst is admitted
+    // within seconds, long before that ordering goes meaningfully stale.
+    private record Pending(MobEntity mob, long enqueuedTick, double distanceSq) {}
+
+    private static final Comparator<Pending> FARTHEST_FIRST =
+        Comparator.comparingDouble(Pending::distanceSq).reversed();
+
+    private MobWarmupQueue() {
+    }
+
+    /**
+     * Queue a mob that just loaded. Returns false when warm-up is disabled and the caller should
+     * set the mob up right away.
+     */
+    public static boolean enqueue(ServerWorld world, MobEntity mob, int perTick) {
+        if (perTick <= 0 || (!SPAWNED_THIS_TICK.isEmpty() && SPAWNED_THIS_TICK.remove(mob.getUuid()))) {
+            return false;
+        }
+        UUID uuid = mob.getUuid();
+        // Re-queued mobs go to the back so PENDING stays in arrival order.
+        PENDING.remove(uuid);
+        PENDING.put(uuid, new Pending(mob, world.getServer().getTicks(), nearestPlayerDistanceSq(world, mob)));
+        return true;
+    }
+
+    /**
+     * Flag a mob that is being spawned (as opposed to loaded from disk) so its load is not queued.
+     * Called from MobEntity#initialize, right before the spawn adds it to the world.
+     */
+    public static void markSpawned(MobEntity mob) {
+        SPAWNED_THIS_TICK.add(mob.getUuid());
+    }
+
+    public static void remove(MobEntity mob) {
+        if (!PENDING.isEmpty()) {
+            PENDING.remove(mob.getUuid());
+        }
+    }
+
+    public static boolean isWarming(MobEntity mob) {
+        return !PENDING.isEmpty() && PENDING.containsKey(mob.getUuid());
+    }
+
+    public static int getPendingCount() {
+        return PENDING.size();
+    }
+
+    public static void clear() {
+        PENDING.clear();
+        SPAWNED_THIS_TICK.clear();
+    }
+
+    /**
+     * Admit up to {@code perTick} mobs: overdue ones first in arrival order, then the rest by
+     * distance to the nearest player when they were queued. A non-positive budget admits everything.
+     */
+    public static void drain(MinecraftServer server, int perTick, Consumer<MobEntity> onAdmit) {
+        // Spawns that never reached the world (cancelled or failed) don't carry over.
+        SPAWNED_THIS_TICK.clear();
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        long now = server.getTicks();
+        int budget = perTick <= 0 ? PENDING.size() : perTick;
+
+        List<Pending> admitted = new ArrayList<>(Math.min(budget, PENDING.size()));
+        List<Pending> waiting = new ArrayList<>();
+        Iterator<Pending> iterator = PENDING.values().iterator();
+        while (iterator.hasNext()) {
+            Pending pending = iterator.next();
+            if (pending.mob().isRemoved()) {
+                iterator.remove();
+            } else if (admitted.size() < budget && now - pending.enqueuedTick() >= MAX_WAIT_TICKS) {
+                admitted.add(pending);
+            } else {
+                waiting.add(pending);
+            }
+        }
+
+        int remaining = budget - admitted.size();
+        if (remaining > 0 && !waiting.isEmpty()) {
+            if (waiting.size() <= remaining) {
+                admitted.addAll(waiting);
+            } else {
+                // Keep the nearest `remaining` in a bounded max-heap instead of sorting the backlog.
+                PriorityQueue<Pending> nearest = new PriorityQueue<>(remaining + 1, FARTHEST_FIRST);
+                for (Pending pending : waiting) {
+                    if (nearest.size() < remaining) {
+                        nearest.add(pending);
+                    } else if (pending.distanceSq() < nearest.peek().distanceSq()) {
+                        nearest.poll();
+                        nearest.add(pending);
+                    }
+                }
+                admitted.addAll(nearest);
+            }
+        }
+
+        // Remove before the callback so anything it triggers already sees the mob as admitted.
+        for (Pending pending : admitted) {
+            PENDING.remove(pending.mob().getUuid());
+        }
+        for (Pending pending : admitted) {
+            onAdmit.accept(pending.mob());
+        }
+    }
+
+    private static double nearestPlayerDistanceSq(ServerWorld world, MobEntity mob) {
+        double best = Double.MAX_VALUE;
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            if (player.isSpectator()) {
+                continue;
+            }
+            best = Math.min(best, player.squaredDistanceTo(mob));
+        }
+        return best;
+    }
+}
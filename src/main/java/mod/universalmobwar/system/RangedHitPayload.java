@@ -0,0 +1,36 @@
+package mod.universalmobwar.system;
+
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.util.math.random.Random;
+
+import java.util.List;
+
+/**
+ * On-hit ranged abilities of one mob projectile (ranged potion mastery and piercing), resolved from
+ * the shooter's config and skill data when the projectile is fired.
+ *
+ * Applying it on hit needs neither the shooter nor its config, so it keeps working after the
+ * shooter has died or unloaded.
+ */
+public record RangedHitPayload(double chance, List<Effect> effects, int piercing) {
+
+    public static final RangedHitPayload NONE = new RangedHitPayload(0.0, List.of(), 0);
+
+    public record Effect(RegistryEntry<StatusEffect> effect, int durationTicks, int amplifier) {}
+
+    /**
+     * Roll the potion mastery chance and, on success, give {@code target} every effect.
+     */
+    public void applyTo(LivingEntity target, Random random) {
+        if (effects.isEmpty() || random.nextDouble() >= chance) {
+            return;
+        }
+        for (Effect effect : effects) {
+            target.addStatusEffect(new StatusEffectInstance(
+                effect.effect(), effect.durationTicks(), effect.amplifier(), false, true, true));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import mod.universalmobwar.UniversalMobWarMod;
+import mod.universalmobwar.bridge.ProjectileAbilityBridge;
 import mod.universalmobwar.config.ModConfig;
 import mod.universalmobwar.data.MobWarData;
 import net.fabricmc.loader.api.FabricLoader;
@@ -23,10 +24,12 @@ import net.minecraft.entity.mob.Angerable;
 import net.minecraft.entity.mob.HostileEntity;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.passive.PassiveEntity;
+import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
@@ -51,6 +54,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -83,6 +87,14 @@ public class ScalingSystem {
     private static final int ENCHANT_WEIGHT_CURSE = 1;
     private static final String ENCHANT_ID_SEPARATOR = "__";
 
+    // Enchanted equipment templates keyed by item + enchant levels; equips get a copy. Entries hold
+    // RegistryEntry instances, so the cache is tied to the registry that built them.
+    private static final int MAX_ENCHANTED_TEMPLATES = 1024;
+    private static final Map<EnchantTemplateKey, ItemStack> ENCHANTED_TEMPLATES = new ConcurrentHashMap<>();
+    private static volatile Registry<Enchantment> ENCHANTED_TEMPLATE_REGISTRY = null;
+
+    private record EnchantTemplateKey(Item item, boolean moddedEnchantsAllowed, String levels) {}
+
     private static final Gson GSON = new Gson();
     
     // Cache of loaded mob configs: mob_name -> JsonObject
@@ -99,15 +111,21 @@ public class ScalingSystem {
     private static final Map<Class<?>, String> SIMPLE_CLASS_LOOKUP_CACHE = new ConcurrentHashMap<>();
     private static final Map<String, String> REGISTRY_NAME_LOOKUP_CACHE = new ConcurrentHashMap<>();
 
-    // Cached fingerprints per mob config to detect changes without recomputing large JSON hashes every tick
-    private static final Map<String, Integer> CONFIG_FINGERPRINTS = new ConcurrentHashMap<>();
+    // Compiled revision per mob config (fingerprint + per-node hashes) to detect changes without rehashing every tick
+    private static final Map<String, MobConfigRevision> CONFIG_REVISIONS = new ConcurrentHashMap<>();
+
+    // Every revision seen this session, keyed by config key then fingerprint, so mobs stamped before a reload can be diffed node-by-node
+    private static final Map<String, Map<Long, MobConfigRevision>> CONFIG_REVISION_HISTORY = new ConcurrentHashMap<>();
+
+    // Old string-hash fingerprints, only computed when a mob still carries one from before the revision scheme
+    private static final Map<Long, Integer> LEGACY_CONFIG_HASHES = new ConcurrentHashMap<>();
     
-    // Track cooldowns for special abilities (mobUUID -> ability -> lastUseTick)
-    private static final Map<UUID, Map<String, Long>> ABILITY_COOLDOWNS = new ConcurrentHashMap<>();
+    // Track cooldowns for special abilities (mobUUID -> ability -> lastUseTick or deadline)
+    private static final AbilityTimerStore ABILITY_COOLDOWNS = new AbilityTimerStore();
 
     // Track per-target immunity for special abilities (targetUUID -> ability -> lastAppliedTick)
     // Prevents the same target from being repeatedly affected in a short window.
-    private static final Map<UUID, Map<String, Long>> ABILITY_TARGET_IMMUNITIES = new ConcurrentHashMap<>();
+    private static final AbilityTimerStore ABILITY_TARGET_IMMUNITIES = new AbilityTimerStore();
     private static final long ABILITY_TARGET_IMMUNITY_TICKS = 10L * 20L; // 10 seconds
 
     // ======================================================================
@@ -386,21 +404,15 @@ public class ScalingSystem {
     private static final String NBT_FALLBACK_INITIALIZED = "umw_fallback_initialized";
     private static final String NBT_FALLBACK_TYPE = "umw_fallback_type";
     private static final String FALLBACK_FLAG_KEY = "_umw_fallback";
-    private static final String ABILITY_KEY_UNDEAD_PULSE = "undead_harming_pulse";
-    private static final String ABILITY_KEY_UNDEAD_BURST = "undead_harming_burst_until";
     private static final long UNDEAD_HARMING_INTERVAL_TICKS = 200L;
-    private static final String ABILITY_KEY_INVIS_READY_TICK = "invisibility_on_hit_ready_tick";
-    private static final String ABILITY_KEY_INVIS_LEGACY = "invisibility_on_hit";
-    private static final String ABILITY_KEY_INVIS_GLOW_NEXT = "invisibility_on_hit_glow_next";
-    private static final String ABILITY_KEY_INVIS_GLOW_UNTIL = "invisibility_on_hit_glow_until";
     private static final long INVIS_GLOW_INTERVAL_TICKS = 40L;
     private static final int INVIS_GLOW_DURATION_TICKS = 8;
 
     private static final String HORDE_REINFORCEMENT_TAG = "umw_horde_reinforcement";
     private static final String NBT_HORDE_REINFORCEMENT = "umw_horde_reinforcement";
     private static final String EQUIPMENT_REPLACEMENT_ONCE_TAG = "umw_equipment_replaced_once";
+    // Live reinforcements allowed around a summoner (see HordeRegionIndex#countNear).
     private static final int HORDE_MAX_NEARBY_MOBS = 10;
-    private static final double HORDE_NEARBY_RADIUS = 50.0;
     private static final double DEFAULT_DAILY_POINTS = 0.1d;
     private static final DayRange[] DEFAULT_DAILY_SCALING = new DayRange[] {
         new DayRange(0, 10, 0.1d, 0),
@@ -429,6 +441,19 @@ public class ScalingSystem {
     private static final String OVERRIDE_KEY_SHIELD = "shield_player_override";
     private static final String NBT_INITIAL_DISARMED = "umw_initial_disarmed";
     private static final String NBT_EQUIPMENT_PRIMED = "umw_equipment_primed";
+    // Full equipment re-validation interval, staggered per mob; catches stacks edited in place.
+    private static final long EQUIPMENT_SWEEP_INTERVAL_TICKS = 200L;
+    // Upgrade effects are recompiled and re-checked at least this often, staggered per mob.
+    private static final long EFFECT_SWEEP_INTERVAL_TICKS = 200L;
+    private static final int EFFECT_BIT_REGENERATION = 1;
+    private static final int EFFECT_BIT_HEALTH_BOOST = 1 << 1;
+    private static final int EFFECT_BIT_STRENGTH = 1 << 2;
+    private static final int EFFECT_BIT_SPEED = 1 << 3;
+    private static final int EFFECT_BIT_RESISTANCE = 1 << 4;
+    private static final int EFFECT_BIT_FIRE_RESISTANCE = 1 << 5;
+    private static final int DAMAGE_ABILITY_INVISIBILITY_ON_HIT = 1;
+    private static final int DAMAGE_ABILITY_ON_DAMAGE_REGEN = 1 << 1;
+    private static final int DAMAGE_ABILITY_HORDE_SUMMON = 1 << 2;
     private static final String NBT_NEXT_UPGRADE_TICK = "umw_next_upgrade_tick";
     private static final String NBT_UPGRADE_PENDING = "umw_upgrade_pending";
     private static final String NBT_SPAWN_BURST_PENDING = "umw_spawn_burst_pending";
@@ -441,6 +466,14 @@ public class ScalingSystem {
     private static final String NBT_ARMOR_LAST_ITEM_SUFFIX = "_umw_last_item";
     private static final long DAILY_UPGRADE_INTERVAL_TICKS = 24000L;
     private static final long BUDGET_RECHECK_INTERVAL_TICKS = 200L;
+    private static final Set<EquipmentSlot> ALL_EQUIPMENT_SLOTS = Collections.unmodifiableSet(EnumSet.of(
+        EquipmentSlot.MAINHAND,
+        EquipmentSlot.OFFHAND,
+        EquipmentSlot.HEAD,
+        EquipmentSlot.CHEST,
+        EquipmentSlot.LEGS,
+        EquipmentSlot.FEET
+    ));
 
     private static long getUpgradeIntervalTicks(ModConfig modConfig) {
         if (modConfig == null) {
@@ -451,29 +484,36 @@ public class ScalingSystem {
 
     private static final Object UPGRADE_SCHEDULER_LOCK = new Object();
     private static final Object SPAWN_UPGRADE_SCHEDULER_LOCK = new Object();
-    private static long NEXT_UPGRADE_SLOT_TICK = 0L;
+    private static final UpgradePassBucket UPGRADE_PASS_BUCKET = new UpgradePassBucket();
     private static long NEXT_SPAWN_UPGRADE_SLOT_TICK = 0L;
     private static final Map<UUID, EquipmentSnapshot> PENDING_EQUIPMENT_SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final double UPGRADE_PRIORITY_PLAYER_RANGE = 128.0;
     
     // List of all available mob config files (loaded dynamically)
-    private static String[] IMPLEMENTED_MOBS = null;
+    private static volatile String[] IMPLEMENTED_MOBS = null;
+    // Own lock, not ScalingSystem.class: the preload thread scans while initialize() may hold the class lock
+    private static final Object IMPLEMENTED_MOBS_LOCK = new Object();
         /**
          * Dynamically load all mob config names from the mob_configs resource directory
          */
         private static String[] getImplementedMobs() {
-            if (IMPLEMENTED_MOBS != null) return IMPLEMENTED_MOBS;
-            java.util.Set<String> normalizedNames = new java.util.LinkedHashSet<>();
-
-            // Primary strategy: leverage Fabric's mod container roots so jar bundles work
-            collectConfigsFromModRoots(normalizedNames);
+            String[] cached = IMPLEMENTED_MOBS;
+            if (cached != null) return cached;
+            synchronized (IMPLEMENTED_MOBS_LOCK) {
+                if (IMPLEMENTED_MOBS != null) return IMPLEMENTED_MOBS;
+                java.util.Set<String> normalizedNames = new java.util.LinkedHashSet<>();
+
+                // Primary strategy: leverage Fabric's mod container roots so jar bundles work
+                collectConfigsFromModRoots(normalizedNames);
+
+                // Fallback for dev/runtime environments where direct resource access is available
+                if (normalizedNames.isEmpty()) {
+                    collectConfigsFromClasspath(normalizedNames);
+                }
 
-            // Fallback for dev/runtime environments where direct resource access is available
-            if (normalizedNames.isEmpty()) {
-                collectConfigsFromClasspath(normalizedNames);
+                IMPLEMENTED_MOBS = normalizedNames.toArray(new String[0]);
+                return IMPLEMENTED_MOBS;
             }
-
-            IMPLEMENTED_MOBS = normalizedNames.toArray(new String[0]);
-            return IMPLEMENTED_MOBS;
         }
 
         private static void collectConfigsFromModRoots(Set<String> normalizedNames) {
@@ -542,61 +582,134 @@ public class ScalingSystem {
             normalizedNames.add(normalized);
         }
     
-    private static boolean configsLoaded = false;
+    private static volatile boolean configsLoaded = false;
+
+    // Background discovery + parse started from mod init; initialize() joins it on first use.
+    private static CompletableFuture<MobConfigLoader.LoadReport> PENDING_CONFIG_LOAD = null;
 
     // ==========================================================================
     //                           INITIALIZATION
     // ==========================================================================
+
+    /**
+     * Start discovering and parsing mob configs off-thread so the first mob tick after boot does
+     * not have to. Safe to call more than once.
+     */
+    public static synchronized void preloadConfigsAsync() {
+        if (configsLoaded || PENDING_CONFIG_LOAD != null) {
+            return;
+        }
+        PENDING_CONFIG_LOAD = CompletableFuture.supplyAsync(ScalingSystem::discoverAndParseMobConfigs, runnable -> {
+            Thread thread = new Thread(runnable, "umw-config-preload");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
     
     /**
      * Initialize the scaling system - load all JSON configs
      */
     public static void initialize() {
         if (configsLoaded) return;
-        
-        UniversalMobWarMod.LOGGER.info("[ScalingSystem] Loading mob configurations...");
-        
+
+        // Wait for the background load without holding the class lock, so nothing the preload
+        // thread still needs can be blocked behind this thread.
+        CompletableFuture<MobConfigLoader.LoadReport> pending;
+        synchronized (ScalingSystem.class) {
+            pending = PENDING_CONFIG_LOAD;
+        }
+        MobConfigLoader.LoadReport preloaded = null;
+        if (pending != null) {
+            try {
+                preloaded = pending.join();
+            } catch (Exception e) {
+                UniversalMobWarMod.LOGGER.error("[ScalingSystem] Background config load failed; retrying inline: {}", e.getMessage());
+            }
+        }
+
+        synchronized (ScalingSystem.class) {
+            if (configsLoaded) return;
+            if (PENDING_CONFIG_LOAD == pending) {
+                PENDING_CONFIG_LOAD = null;
+            }
+            MobConfigLoader.LoadReport report = preloaded != null ? preloaded : discoverAndParseMobConfigs();
+
+            for (MobConfigLoader.ParsedConfig parsed : report.configs()) {
+                registerMobConfig(parsed.config());
+            }
+
+            configsLoaded = true;
+            report.log("Loaded");
+        }
+    }
+
+    private static MobConfigLoader.LoadReport discoverAndParseMobConfigs() {
+        List<String> resourceNames = new ArrayList<>();
         for (String mobName : getImplementedMobs()) {
-            loadMobConfig(mobName);
+            resourceNames.add(CONFIG_RESOURCE_NAMES.getOrDefault(mobName, mobName));
         }
-        
-        configsLoaded = true;
-        UniversalMobWarMod.LOGGER.info("[ScalingSystem] Loaded {} mob configurations", MOB_CONFIGS.size());
+        return MobConfigLoader.loadAll(resourceNames);
     }
-    
+
     /**
-     * Load a single mob's JSON config
+     * Index a parsed config by mob name and entity class. The compiled revision is built lazily
+     * the first time a mob of this type ticks (see {@link #resolveConfigRevision}).
      */
-    private static void loadMobConfig(String mobName) {
-        String normalized = mobName.toLowerCase(java.util.Locale.ROOT);
-        String resourceName = CONFIG_RESOURCE_NAMES.getOrDefault(normalized, mobName);
-        String path = "/mob_configs/" + resourceName + ".json";
-        
-        try (InputStream is = ScalingSystem.class.getResourceAsStream(path)) {
-            if (is == null) {
-                UniversalMobWarMod.LOGGER.warn("[ScalingSystem] Config not found: {}", path);
-                return;
-            }
-            
-            InputStreamReader reader = new InputStreamReader(is, StandardCharsets.UTF_8);
-            JsonObject config = GSON.fromJson(reader, JsonObject.class);
-            
-            if (config != null && config.has("mob_name") && config.has("entity_class")) {
-                String configMobName = config.get("mob_name").getAsString().toLowerCase();
-                String entityClass = config.get("entity_class").getAsString();
-                
-                MOB_CONFIGS.put(configMobName, config);
-                ENTITY_TO_CONFIG.put(entityClass, configMobName);
-                
-                // Also map simple class name for easier lookup
-                String simpleClassName = entityClass.substring(entityClass.lastIndexOf('.') + 1).toLowerCase();
-                ENTITY_TO_CONFIG.put(simpleClassName, configMobName);
-                CONFIG_FINGERPRINTS.put(configMobName, computeJsonFingerprint(config));
+    private static String registerMobConfig(JsonObject config) {
+        String configMobName = config.get("mob_name").getAsString().toLowerCase(java.util.Locale.ROOT);
+        String entityClass = config.get("entity_class").getAsString();
+
+        MOB_CONFIGS.put(configMobName, config);
+        ENTITY_TO_CONFIG.put(entityClass, configMobName);
+
+        // Also map simple class name for easier lookup
+        String simpleClassName = entityClass.substring(entityClass.lastIndexOf('.') + 1).toLowerCase(java.util.Locale.ROOT);
+        ENTITY_TO_CONFIG.put(simpleClassName, configMobName);
+        return configMobName;
+    }
+
+    /**
+     * Re-read every mob config and swap in only the types whose content changed. Mobs of
+     * unchanged types keep their fingerprint, so they are not touched at all; mobs of changed
+     * types are reconciled node-by-node on their next tick (see {@link #reconcileConfigChange}).
+     *
+     * @return changed node paths per mob type (empty when nothing changed)
+     */
+    public static synchronized Map<String, List<String>> reloadMobConfigs() {
+        Map<String, List<String>> changedNodes = new LinkedHashMap<>();
+        if (!configsLoaded) {
+            initialize();
+            return changedNodes;
+        }
+
+        // Re-scan so newly added files are picked up; registry lookups may now resolve to them.
+        synchronized (IMPLEMENTED_MOBS_LOCK) {
+            IMPLEMENTED_MOBS = null;
+        }
+        REGISTRY_NAME_LOOKUP_CACHE.clear();
+
+        MobConfigLoader.LoadReport report = discoverAndParseMobConfigs();
+        for (MobConfigLoader.ParsedConfig parsed : report.configs()) {
+            JsonObject config = parsed.config();
+            String configMobName = config.get("mob_name").getAsString().toLowerCase(java.util.Locale.ROOT);
+            MobConfigRevision previous = CONFIG_REVISIONS.get(configMobName);
+            if (previous == null && MOB_CONFIGS.containsKey(configMobName)) {
+                // Type never ticked since load, so its revision was never built; compare against the live config.
+                previous = MobConfigRevision.compile(configMobName, MOB_CONFIGS.get(configMobName));
+            }
+            List<String> diff = MobConfigRevision.compile(configMobName, config).diff(previous);
+            if (diff.isEmpty()) {
+                // Keep the existing JsonObject so revision lookups stay identity hits.
+                continue;
             }
-            
-        } catch (Exception e) {
-            UniversalMobWarMod.LOGGER.error("[ScalingSystem] Failed to load {}: {}", path, e.getMessage());
+            registerMobConfig(config);
+            changedNodes.put(configMobName, diff);
         }
+
+        report.log("Reloaded");
+        UniversalMobWarMod.LOGGER.info("[ScalingSystem] Reloaded mob configurations: {} changed type(s) {}",
+            changedNodes.size(), changedNodes.keySet());
+        return changedNodes;
     }
 
     private static JsonObject tryLoadMobConfigDirect(String resourceName) {
@@ -613,13 +726,7 @@ public class ScalingSystem {
             if (config == null || !config.has("mob_name") || !config.has("entity_class")) {
                 return null;
             }
-            String configMobName = config.get("mob_name").getAsString().toLowerCase(java.util.Locale.ROOT);
-            String entityClass = config.get("entity_class").getAsString();
-            MOB_CONFIGS.put(configMobName, config);
-            ENTITY_TO_CONFIG.put(entityClass, configMobName);
-            String simpleClassName = entityClass.substring(entityClass.lastIndexOf('.') + 1).toLowerCase(java.util.Locale.ROOT);
-            ENTITY_TO_CONFIG.put(simpleClassName, configMobName);
-            CONFIG_FINGERPRINTS.put(configMobName, computeJsonFingerprint(config));
+            registerMobConfig(config);
             // Preserve the discovered resource name so future loads resolve the same casing.
             CONFIG_RESOURCE_NAMES.putIfAbsent(resourceName.toLowerCase(java.util.Locale.ROOT), resourceName);
             return config;
@@ -679,34 +786,49 @@ public class ScalingSystem {
         return upper + value.substring(1);
     }
 
-    private static int computeJsonFingerprint(JsonObject json) {
-        if (json == null) {
-            return 0;
+    private static MobConfigRevision registerConfigRevision(String configKey, JsonObject config) {
+        MobConfigRevision revision = MobConfigRevision.compile(configKey, config);
+        CONFIG_REVISIONS.put(configKey, revision);
+        CONFIG_REVISION_HISTORY.computeIfAbsent(configKey, key -> new ConcurrentHashMap<>())
+            .putIfAbsent(revision.fingerprint(), revision);
+        return revision;
+    }
+
+    private static String resolveConfigKey(JsonObject config) {
+        if (config == null || !config.has("mob_name")) {
+            return null;
         }
-        return json.toString().hashCode();
+        String name = config.get("mob_name").getAsString().toLowerCase(java.util.Locale.ROOT);
+        boolean fallback = config.has(FALLBACK_FLAG_KEY) && config.get(FALLBACK_FLAG_KEY).getAsBoolean();
+        return fallback ? FALLBACK_PREFIX + name : name;
     }
 
-    private static int resolveMobConfigHash(JsonObject config) {
-        if (config == null) {
-            return 0;
+    private static MobConfigRevision resolveConfigRevision(JsonObject config) {
+        String configKey = resolveConfigKey(config);
+        if (configKey == null) {
+            return MobConfigRevision.compile(null, config);
         }
-        String configName = config.has("mob_name")
-            ? config.get("mob_name").getAsString().toLowerCase(java.util.Locale.ROOT)
-            : null;
-        if (configName == null) {
-            return computeJsonFingerprint(config);
+        MobConfigRevision revision = CONFIG_REVISIONS.get(configKey);
+        if (revision == null || revision.config() != config) {
+            revision = registerConfigRevision(configKey, config);
         }
-        return CONFIG_FINGERPRINTS.computeIfAbsent(configName, key -> computeJsonFingerprint(config));
+        return revision;
     }
 
-    private static long computeEffectiveConfigFingerprint(JsonObject config, ModConfig modConfig) {
-        int configHash = resolveMobConfigHash(config);
+    /**
+     * Fingerprint format used before per-node revisions: string hash of the JSON mixed with the
+     * buy/save/iteration settings. Only used to recognise and silently migrate old mob data.
+     */
+    private static long computeLegacyConfigFingerprint(MobConfigRevision revision, ModConfig modConfig) {
+        int configHash = LEGACY_CONFIG_HASHES.computeIfAbsent(revision.fingerprint(), key -> {
+            JsonObject json = revision.config();
+            return json == null ? 0 : json.toString().hashCode();
+        });
         if (modConfig == null) {
             return ((long) configHash) << 32;
         }
-        ModConfigSnapshot snapshot = ModConfigSnapshot.capture(modConfig);
-        int modHash = snapshot != null ? snapshot.hashCode() : 0;
-            return (((long) configHash) << 32) ^ (modHash & 0xffffffffL);
+        int modHash = ModConfigSnapshot.capture(modConfig).hashCode();
+        return (((long) configHash) << 32) ^ (modHash & 0xffffffffL);
     }
     
     /**
@@ -789,7 +911,7 @@ public class ScalingSystem {
             String storedType = cached.has("mob_type") ? cached.get("mob_type").getAsString() : "hostile";
             if (!storedType.equals(detectedType)) {
                 cached.addProperty("mob_type", detectedType);
-                CONFIG_FINGERPRINTS.put(fallbackKey, computeJsonFingerprint(cached));
+                registerConfigRevision(fallbackKey, cached);
             }
             ENTITY_TO_CONFIG.putIfAbsent(mob.getClass().getName(), fallbackKey);
             ENTITY_TO_CONFIG.putIfAbsent(mob.getClass().getSimpleName().toLowerCase(Locale.ROOT), fallbackKey);
@@ -800,7 +922,7 @@ public class ScalingSystem {
         MOB_CONFIGS.put(fallbackKey, fallbackConfig);
         ENTITY_TO_CONFIG.put(mob.getClass().getName(), fallbackKey);
         ENTITY_TO_CONFIG.put(mob.getClass().getSimpleName().toLowerCase(Locale.ROOT), fallbackKey);
-        CONFIG_FINGERPRINTS.put(fallbackKey, computeJsonFingerprint(fallbackConfig));
+        registerConfigRevision(fallbackKey, fallbackConfig);
         return fallbackConfig;
     }
 
@@ -926,15 +1048,18 @@ public class ScalingSystem {
         return "passive";
     }
 
-    private static void initializeFallbackSkillData(NbtCompound skillData, String mobType) {
+    /**
+     * Seed the fixed fallback effect levels. Returns true when skill data changed.
+     */
+    private static boolean initializeFallbackSkillData(NbtCompound skillData, String mobType) {
         if (skillData == null) {
-            return;
+            return false;
         }
 
         boolean typeChanged = !skillData.contains(NBT_FALLBACK_TYPE) || !mobType.equals(skillData.getString(NBT_FALLBACK_TYPE));
         boolean needsInit = typeChanged || !skillData.getBoolean(NBT_FALLBACK_INITIALIZED);
         if (!needsInit) {
-            return;
+            return false;
         }
 
         skillData.putInt("effect_regeneration", 1);
@@ -949,6 +1074,7 @@ public class ScalingSystem {
 
         skillData.putBoolean(NBT_FALLBACK_INITIALIZED, true);
         skillData.putString(NBT_FALLBACK_TYPE, mobType);
+        return true;
     }
 
     private static void processFallbackMob(MobEntity mob, World world, MobWarData data, JsonObject config,
@@ -958,9 +1084,10 @@ public class ScalingSystem {
         }
 
         String mobType = config.has("mob_type") ? config.get("mob_type").getAsString() : determineFallbackMobType(mob);
-        initializeFallbackSkillData(skillData, mobType);
-        refreshMissingEffects(mob, skillData, config, mobType);
-        applyEffects(mob, data, config, mobType, currentTick);
+        if (initializeFallbackSkillData(skillData, mobType)) {
+            applyEffects(mob, data, config, mobType, currentTick);
+        }
+        refreshMissingEffects(mob, data, skillData, config, mobType);
         handleUndeadHealingPulse(mob, skillData, currentTick);
         handleInvisibilityGlowFlicker(mob, currentTick);
         clearUpgradeSchedule(skillData);
@@ -985,12 +1112,24 @@ public class ScalingSystem {
      * Ensures MobWarData stays in sync with the mob's actual equipment state.
      * If an item breaks or disappears, downgrade tiers and reset masteries according
      * to the progression spec so the slot becomes eligible for repurchase.
+     *
+     * Only slots flagged dirty in MobWarData are validated: equipStack and equipment breaks mark
+     * them (see MobDataMixin / MobEquipmentChangeMixin), upgrade passes mark everything, and a
+     * staggered sweep every {@link #EQUIPMENT_SWEEP_INTERVAL_TICKS} catches in-place stack edits.
      */
     public static void monitorEquipmentState(MobEntity mob, MobWarData data) {
         if (mob == null || data == null || mob.getWorld().isClient()) {
             return;
         }
 
+        if ((mob.getWorld().getTime() + mob.getId()) % EQUIPMENT_SWEEP_INTERVAL_TICKS == 0L) {
+            data.markAllEquipmentDirty();
+        }
+        int dirtySlots = data.takeDirtyEquipmentSlots();
+        if (dirtySlots == 0) {
+            return;
+        }
+
         // Only manage equipment for mobs that have an explicit scaling config.
         // Otherwise we can accidentally strip gear from modded mobs that are not configured.
         JsonObject config = getConfigForMob(mob);
@@ -1000,11 +1139,15 @@ public class ScalingSystem {
 
         NbtCompound skillData = data.getSkillData();
         if (skillData == null || skillData.isEmpty()) {
+            // Nothing to validate against yet; keep the slots dirty for the first real pass.
+            data.markEquipmentDirty(dirtySlots);
             return;
         }
 
         boolean stateChanged = ensureInitialDisarm(mob, skillData);
         if (!skillData.getBoolean(NBT_EQUIPMENT_PRIMED)) {
+            // Flags are being rebuilt; validate every slot once equipment is primed again.
+            data.markAllEquipmentDirty();
             if (stateChanged) {
                 MobWarData.save(mob, data);
             }
@@ -1013,8 +1156,32 @@ public class ScalingSystem {
 
         JsonObject tree = config.getAsJsonObject("tree");
         ServerWorld serverWorld = mob.getWorld() instanceof ServerWorld sw ? sw : null;
-        JsonElement shieldElement = tree.has("shield") ? tree.get("shield") : null;
 
+        if (MobWarData.isEquipmentSlotInMask(dirtySlots, EquipmentSlot.MAINHAND)) {
+            monitorWeaponSlot(mob, data, skillData, tree, serverWorld);
+        }
+        if (MobWarData.isEquipmentSlotInMask(dirtySlots, EquipmentSlot.OFFHAND)) {
+            monitorShieldSlot(mob, data, skillData, tree, serverWorld);
+        }
+        if (MobWarData.isEquipmentSlotInMask(dirtySlots, EquipmentSlot.HEAD)) {
+            monitorArmorSlot(mob, data, skillData, tree, EquipmentSlot.HEAD, "helmet", serverWorld);
+        }
+        if (MobWarData.isEquipmentSlotInMask(dirtySlots, EquipmentSlot.CHEST)) {
+            monitorArmorSlot(mob, data, skillData, tree, EquipmentSlot.CHEST, "chestplate", serverWorld);
+        }
+        if (MobWarData.isEquipmentSlotInMask(dirtySlots, EquipmentSlot.LEGS)) {
+            monitorArmorSlot(mob, data, skillData, tree, EquipmentSlot.LEGS, "leggings", serverWorld);
+        }
+        if (MobWarData.isEquipmentSlotInMask(dirtySlots, EquipmentSlot.FEET)) {
+            monitorArmorSlot(mob, data, skillData, tree, EquipmentSlot.FEET, "boots", serverWorld);
+        }
+
+        if (stateChanged) {
+            MobWarData.save(mob, data);
+        }
+    }
+
+    private static void monitorWeaponSlot(MobEntity mob, MobWarData data, NbtCompound skillData, JsonObject tree, ServerWorld serverWorld) {
         JsonElement weaponElement = tree.has("weapon") ? tree.get("weapon") : null;
         JsonObject lockedWeapon = weaponElement != null ? getLockedWeaponForMob(weaponElement, mob) : null;
         boolean scopedWeapon = lockedWeapon != null && hasMultipleWeaponOptions(weaponElement);
@@ -1060,7 +1227,10 @@ public class ScalingSystem {
         } else if (!hasWeaponEquipped && shouldHaveWeapon && serverWorld != null && lockedWeapon != null) {
             applyWeapon(mob, skillData, lockedWeapon, serverWorld, scopedWeapon, weaponScopeKey, null, false);
         }
+    }
 
+    private static void monitorShieldSlot(MobEntity mob, MobWarData data, NbtCompound skillData, JsonObject tree, ServerWorld serverWorld) {
+        JsonElement shieldElement = tree.has("shield") ? tree.get("shield") : null;
         boolean hasShieldEquipped = skillData.getBoolean("shield_equipped");
         int hasShieldTier = skillData.getInt("has_shield");
         boolean shouldHaveShield = hasShieldTier > 0;
@@ -1097,15 +1267,6 @@ public class ScalingSystem {
         } else if (!hasShieldEquipped && shouldHaveShield && serverWorld != null && shieldElement != null) {
             applyShield(mob, skillData, shieldElement.getAsJsonObject(), serverWorld, null, false);
         }
-
-        monitorArmorSlot(mob, data, skillData, tree, EquipmentSlot.HEAD, "helmet", serverWorld);
-        monitorArmorSlot(mob, data, skillData, tree, EquipmentSlot.CHEST, "chestplate", serverWorld);
-        monitorArmorSlot(mob, data, skillData, tree, EquipmentSlot.LEGS, "leggings", serverWorld);
-        monitorArmorSlot(mob, data, skillData, tree, EquipmentSlot.FEET, "boots", serverWorld);
-
-        if (stateChanged) {
-            MobWarData.save(mob, data);
-        }
     }
 
     private static boolean ensureInitialDisarm(MobEntity mob, NbtCompound skillData) {
@@ -1135,7 +1296,7 @@ public class ScalingSystem {
         if (mob == null || slot == null || mob.getWorld().isClient()) {
             return false;
         }
-        ItemStack current = mob.getEquippedStack(slot);
+        ItemStack current = EquipmentSyncCoalescer.getEquipped(mob, slot);
         if (current == null || current.isEmpty()) {
             return true;
         }
@@ -1162,6 +1323,8 @@ public class ScalingSystem {
                 // Best-effort only; dropping the stack is still preferable to crashing.
             }
         }
+        // Cleared right away, not staged: the stack must be off the mob before its copy is on the
+        // ground, or a death before the end-of-tick flush would drop it a second time.
         mob.equipStack(slot, ItemStack.EMPTY);
         mob.dropStack(toDrop);
         mob.addCommandTag(slotTag);
@@ -1189,6 +1352,128 @@ public class ScalingSystem {
         }
     }
 
+    /**
+     * Bring a mob stamped with an older config fingerprint up to date. When the previous revision
+     * is known, only the changed nodes are invalidated: point_system edits rebuild the day-point
+     * cache, and effect/ability edits clamp that one skill (refunding the difference). Anything
+     * touching equipment tiers or the mob's identity still falls back to a full reset.
+     */
+    private static void reconcileConfigChange(MobEntity mob, MobWarData data, JsonObject config,
+            MobConfigRevision current, long storedFingerprint, ModConfig modConfig) {
+        if (storedFingerprint == computeLegacyConfigFingerprint(current, modConfig)) {
+            return;
+        }
+
+        Map<Long, MobConfigRevision> history = current.configKey() != null
+            ? CONFIG_REVISION_HISTORY.get(current.configKey())
+            : null;
+        MobConfigRevision previous = history != null ? history.get(storedFingerprint) : null;
+        if (previous == null || !Objects.equals(previous.configKey(), current.configKey())) {
+            resetUpgradesForConfigChange(mob, data, current.fingerprint());
+            return;
+        }
+
+        List<String> changedNodes = current.diff(previous);
+        for (String node : changedNodes) {
+            if (!MobConfigRevision.NODE_POINT_SYSTEM.equals(node)
+                && !MobConfigRevision.NODE_TREE_NAME.equals(node)
+                && MobConfigRevision.getLeafSkillKey(node) == null) {
+                resetUpgradesForConfigChange(mob, data, current.fingerprint());
+                return;
+            }
+        }
+
+        NbtCompound skillData = data.getSkillData();
+        if (skillData == null) {
+            return;
+        }
+
+        String mobType = config.has("mob_type") ? config.get("mob_type").getAsString() : "hostile";
+        String activeEffectsKey = mobType.equals("passive") ? "passive_potion_effects" : "hostile_neutral_potion_effects";
+        double spentAdjustment = 0.0;
+        boolean levelsChanged = false;
+        boolean effectsChanged = false;
+
+        for (String node : changedNodes) {
+            if (MobConfigRevision.NODE_POINT_SYSTEM.equals(node)) {
+                // Day points are re-derived from the new daily_scaling table later this tick.
+                skillData.remove(NBT_TOTAL_POINT_CACHE);
+                skillData.remove(NBT_LAST_ACCOUNTED_DAY);
+                continue;
+            }
+            String skillKey = MobConfigRevision.getLeafSkillKey(node);
+            String section = MobConfigRevision.getLeafSection(node);
+            if (skillKey == null || (!"special_abilities".equals(section) && !activeEffectsKey.equals(section))) {
+                continue;
+            }
+            int level = skillData.getInt(skillKey);
+            if (level <= 0) {
+                continue;
+            }
+            JsonArray oldLevels = previous.getLeafLevels(node);
+            JsonArray newLevels = current.getLeafLevels(node);
+            int keptLevel = Math.min(level, newLevels != null ? newLevels.size() : 0);
+            spentAdjustment += sumLevelCosts(newLevels, keptLevel) - sumLevelCosts(oldLevels, level);
+            if (keptLevel > 0) {
+                skillData.putInt(skillKey, keptLevel);
+            } else {
+                skillData.remove(skillKey);
+            }
+            levelsChanged = true;
+            effectsChanged |= clearScaledEffect(mob, skillKey);
+        }
+
+        if (levelsChanged) {
+            UUID mobUuid = mob.getUuid();
+            UpgradeJobScheduler.getInstance().cancel(mobUuid);
+            PENDING_EQUIPMENT_SNAPSHOTS.remove(mobUuid);
+            clearUpgradeSchedule(skillData);
+            data.setSpentPoints(Math.max(0.0, data.getSpentPoints() + spentAdjustment));
+            // Levels were edited in place; a shrunk ability may no longer fire on damage.
+            data.invalidateDamageAbilities();
+        }
+        if (effectsChanged) {
+            applyEffects(mob, data, config, mobType, mob.getWorld().getTime());
+        }
+        MobWarData.save(mob, data);
+    }
+
+    private static double sumLevelCosts(JsonArray levels, int count) {
+        if (levels == null) {
+            return 0.0;
+        }
+        double total = 0.0;
+        int limit = Math.min(count, levels.size());
+        for (int i = 0; i < limit; i++) {
+            JsonElement level = levels.get(i);
+            if (level.isJsonObject() && level.getAsJsonObject().has("cost")) {
+                total += level.getAsJsonObject().get("cost").getAsDouble();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Remove the infinite status effect backing a scaled effect skill so it can be re-applied at
+     * its new amplifier (vanilla keeps the stronger instance when re-adding).
+     */
+    private static boolean clearScaledEffect(MobEntity mob, String skillKey) {
+        switch (skillKey) {
+            case "effect_regeneration" -> mob.removeStatusEffect(StatusEffects.REGENERATION);
+            case "effect_health_boost" -> mob.removeStatusEffect(StatusEffects.HEALTH_BOOST);
+            case "effect_strength" -> mob.removeStatusEffect(StatusEffects.STRENGTH);
+            case "effect_speed" -> mob.removeStatusEffect(StatusEffects.SPEED);
+            case "effect_resistance" -> {
+                mob.removeStatusEffect(StatusEffects.RESISTANCE);
+                mob.removeStatusEffect(StatusEffects.FIRE_RESISTANCE);
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static void resetUpgradesForConfigChange(MobEntity mob, MobWarData data, long newFingerprint) {
         if (mob == null || data == null) {
             return;
@@ -1210,6 +1495,8 @@ public class ScalingSystem {
         resetEquippedFlags(resetData);
         data.setSkillData(resetData);
         data.setSpentPoints(0);
+        data.markAllEquipmentDirty();
+        data.invalidateExpectedEffects();
         MobWarData.save(mob, data);
     }
 
@@ -1253,7 +1540,7 @@ public class ScalingSystem {
         NbtCompound skillData = data.getSkillData();
         boolean firstCycle = skillData == null || !skillData.contains(NBT_LAST_UPGRADE_MARKER);
         long currentTick = world.getTime();
-        boolean cooldownElapsed = hasUpgradeCooldownElapsed(skillData, currentTick, modConfig);
+        boolean cooldownElapsed = hasUpgradeCooldownElapsed(skillData, currentTick, modConfig, mob.getUuid());
 
         if (firstCycle || cooldownElapsed) {
             processMobTick(mob, world, data, true);
@@ -1304,11 +1591,12 @@ public class ScalingSystem {
             data.setSkillData(skillData);
         }
 
-        long configFingerprint = computeEffectiveConfigFingerprint(config, modConfig);
+        MobConfigRevision configRevision = resolveConfigRevision(config);
+        long configFingerprint = configRevision.fingerprint();
         if (skillData.contains(NBT_CONFIG_FINGERPRINT)) {
             long storedFingerprint = skillData.getLong(NBT_CONFIG_FINGERPRINT);
             if (storedFingerprint != configFingerprint) {
-                resetUpgradesForConfigChange(mob, data, configFingerprint);
+                reconcileConfigChange(mob, data, config, configRevision, storedFingerprint, modConfig);
                 skillData = data.getSkillData();
                 if (skillData == null) {
                     skillData = new NbtCompound();
@@ -1326,7 +1614,7 @@ public class ScalingSystem {
         }
 
         String mobType = config.has("mob_type") ? config.get("mob_type").getAsString() : "hostile";
-        refreshMissingEffects(mob, skillData, config, mobType);
+        refreshMissingEffects(mob, data, skillData, config, mobType);
 
         int killCount = data.getKillCount();
         double killScaling = getKillScalingFactor(config);
@@ -1403,6 +1691,7 @@ public class ScalingSystem {
         long upgradeIntervalTicks = getUpgradeIntervalTicks(modConfig);
         int currentTimeOfDay = getCurrentUpgradeMarker(world, upgradeIntervalTicks);
         UUID mobUuid = mob.getUuid();
+        UpgradePhase upgradePhase = resolveUpgradePhase(mobUuid, modConfig, upgradeIntervalTicks);
 
         Registry<Enchantment> enchantRegistry = null;
         if (world instanceof ServerWorld serverWorld) {
@@ -1421,14 +1710,11 @@ public class ScalingSystem {
         boolean appliedEquipment = false;
 
         if (asyncEnabled) {
+            // Normally results are applied by drainCompletedUpgrades; this only picks up ones whose
+            // mob was unloaded when its turn in the completion queue came.
             UpgradeJobResult completedResult = scheduler.pollResult(mobUuid);
             if (completedResult != null) {
-                EquipmentSnapshot snapshot = PENDING_EQUIPMENT_SNAPSHOTS.remove(mobUuid);
-                if (snapshot == null) {
-                    snapshot = EquipmentSnapshot.capture(mob, skillData);
-                }
-                applyUpgradeComputation(mob, data, config, mobType, currentTick, currentTimeOfDay, completedResult.computation(), snapshot);
-                clearUpgradeSchedule(data.getSkillData());
+                applyCompletedUpgrade(mob, data, config, mobType, currentTick, currentTimeOfDay, completedResult);
                 skillData = data.getSkillData();
                 spentPoints = data.getSpentPoints();
                 budget = (int)Math.max(0, Math.floor(totalPoints - spentPoints));
@@ -1438,7 +1724,7 @@ public class ScalingSystem {
         }
 
         boolean firstUpgradeCycle = !skillData.contains(NBT_LAST_UPGRADE_MARKER);
-        boolean readyForNextCycle = isUpgradeWindowOpen(skillData, currentTimeOfDay, currentTick, upgradeIntervalTicks);
+        boolean readyForNextCycle = isUpgradeWindowOpen(skillData, currentTimeOfDay, currentTick, upgradeIntervalTicks, upgradePhase);
         boolean shouldRequestUpgrade = firstUpgradeCycle || readyForNextCycle;
         boolean upgradePending = skillData.getBoolean(NBT_UPGRADE_PENDING);
         boolean windowApproved = skillData.getBoolean(NBT_WINDOW_APPROVED);
@@ -1488,7 +1774,7 @@ public class ScalingSystem {
         boolean needsEquipmentSync = canSyncEquipment && requiresEquipmentSync(mob, skillData);
 
         if (upgradeScheduleReady && !readyForNextCycle && !windowApproved) {
-            long windowDelayTicks = Math.max(1L, computeTicksUntilUpgradeWindow(skillData, currentTimeOfDay, currentTick, upgradeIntervalTicks));
+            long windowDelayTicks = Math.max(1L, computeTicksUntilUpgradeWindow(skillData, currentTimeOfDay, currentTick, upgradeIntervalTicks, upgradePhase));
             skillData.putBoolean(NBT_WINDOW_APPROVED, false);
             deferUpgradePass(skillData, currentTick, windowDelayTicks);
             upgradeScheduleReady = false;
@@ -1535,7 +1821,7 @@ public class ScalingSystem {
                         if (spawnBurst) {
                             configSnapshot = configSnapshot.forSpawnBurst(modConfig);
                         }
-                        boolean started = submitUpgradeJob(
+                        UpgradeJobScheduler.Admission admission = submitUpgradeJob(
                             mob,
                             data,
                             config,
@@ -1550,15 +1836,8 @@ public class ScalingSystem {
                             killCount,
                             false
                         );
-                        if (!started) {
-                            if (spawnBurst) {
-                                deferUpgradePass(skillData, currentTick, 1L);
-                            } else {
-                                int maxConcurrentJobs = Math.max(1, modConfig.getMaxConcurrentUpgradeJobs());
-                                int activeJobs = scheduler.getActiveJobCount();
-                                long delayTicks = computeConcurrencyBackoffTicks(modConfig, activeJobs, maxConcurrentJobs);
-                                deferUpgradePass(skillData, currentTick, delayTicks);
-                            }
+                        if (!admission.accepted()) {
+                            deferUpgradePass(skillData, currentTick, spawnBurst ? 1L : admission.retryAfterTicks());
                             upgradeScheduleReady = false;
                         }
                     }
@@ -1740,15 +2019,20 @@ public class ScalingSystem {
         return (int) Math.floorMod(tick, interval);
     }
 
-    private static boolean isUpgradeWindowOpen(NbtCompound skillData, int currentTimeOfDay, long currentTick, long upgradeIntervalTicks) {
+    private static boolean isUpgradeWindowOpen(NbtCompound skillData, int currentTimeOfDay, long currentTick, long upgradeIntervalTicks, UpgradePhase phase) {
         if (skillData == null || !skillData.contains(NBT_LAST_UPGRADE_MARKER)) {
             return true;
         }
 
-        if (hasUpgradeCooldownElapsed(skillData, currentTick, upgradeIntervalTicks)) {
+        if (hasUpgradeCooldownElapsed(skillData, currentTick, upgradeIntervalTicks, phase)) {
             skillData.putBoolean(NBT_UPGRADE_WRAP_STATE, true);
             return true;
         }
+        if (skillData.contains(NBT_LAST_UPGRADE_TICK)) {
+            // The time-of-day marker below is only for data saved before upgrade ticks were tracked;
+            // it would open the window on the raw interval and skip the mob's phase slot.
+            return false;
+        }
 
         int marker = skillData.getInt(NBT_LAST_UPGRADE_MARKER);
         boolean wrapped = skillData.getBoolean(NBT_UPGRADE_WRAP_STATE);
@@ -1759,11 +2043,13 @@ public class ScalingSystem {
         return wrapped && currentTimeOfDay >= marker;
     }
 
-    private static boolean hasUpgradeCooldownElapsed(NbtCompound skillData, long currentTick, ModConfig modConfig) {
-        return hasUpgradeCooldownElapsed(skillData, currentTick, getUpgradeIntervalTicks(modConfig));
+    private static boolean hasUpgradeCooldownElapsed(NbtCompound skillData, long currentTick, ModConfig modConfig, UUID mobUuid) {
+        long upgradeIntervalTicks = getUpgradeIntervalTicks(modConfig);
+        return hasUpgradeCooldownElapsed(skillData, currentTick, upgradeIntervalTicks,
+            resolveUpgradePhase(mobUuid, modConfig, upgradeIntervalTicks));
     }
 
-    private static boolean hasUpgradeCooldownElapsed(NbtCompound skillData, long currentTick, long upgradeIntervalTicks) {
+    private static boolean hasUpgradeCooldownElapsed(NbtCompound skillData, long currentTick, long upgradeIntervalTicks, UpgradePhase phase) {
         if (skillData == null) {
             return true;
         }
@@ -1774,8 +2060,37 @@ public class ScalingSystem {
         if (lastTick <= 0L || currentTick <= lastTick) {
             return true;
         }
-        long elapsed = currentTick - lastTick;
-        return elapsed >= Math.max(1L, upgradeIntervalTicks);
+        return currentTick >= phase.alignUp(lastTick + Math.max(1L, upgradeIntervalTicks));
+    }
+
+    /**
+     * Where in the jitter window this mob's upgrade passes land. A mob's next pass is never
+     * earlier than a full interval after its last one, then waits for its own phase slot, so
+     * mobs that upgraded on the same tick fan out evenly over the window instead of all becoming
+     * eligible together at the next rollover.
+     */
+    private record UpgradePhase(long offsetTicks, long windowTicks) {
+        static final UpgradePhase NONE = new UpgradePhase(0L, 0L);
+
+        long alignUp(long tick) {
+            if (windowTicks <= 1L) {
+                return tick;
+            }
+            return tick + Math.floorMod(offsetTicks - tick, windowTicks);
+        }
+    }
+
+    private static UpgradePhase resolveUpgradePhase(UUID mobUuid, ModConfig modConfig, long upgradeIntervalTicks) {
+        if (mobUuid == null || modConfig == null) {
+            return UpgradePhase.NONE;
+        }
+        long window = Math.min(modConfig.getUpgradeJitterWindowTicks(), Math.max(1L, upgradeIntervalTicks));
+        if (window <= 1L) {
+            return UpgradePhase.NONE;
+        }
+        // Stable per mob across restarts: derived from the UUID only.
+        long mixed = mobUuid.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ mobUuid.getLeastSignificantBits();
+        return new UpgradePhase(Math.floorMod(mixed ^ (mixed >>> 29), window), window);
     }
 
     private static int resolveConfiguredWorldDays(World world, ModConfig modConfig) {
@@ -1800,8 +2115,9 @@ public class ScalingSystem {
         }
         long delay = getUpgradeProcessingDelayTicks(modConfig);
         long preferred = currentTick + delay;
-        boolean bypassDelay = UpgradeJobScheduler.getInstance().isIdle();
-        long scheduled = reserveUpgradeSlot(currentTick, preferred, delay, bypassDelay);
+        UpgradeJobScheduler scheduler = UpgradeJobScheduler.getInstance();
+        boolean bypassDelay = scheduler.isIdle();
+        long scheduled = reserveUpgradeSlot(currentTick, preferred, delay, bypassDelay, scheduler.estimateBacklogTicks(), modConfig);
         skillData.putBoolean(NBT_UPGRADE_PENDING, true);
         skillData.putBoolean(NBT_WINDOW_APPROVED, windowApproved);
         skillData.putLong(NBT_NEXT_UPGRADE_TICK, scheduled);
@@ -1828,26 +2144,24 @@ public class ScalingSystem {
         skillData.putLong(NBT_NEXT_UPGRADE_TICK, deferredTick);
     }
 
-    private static long reserveUpgradeSlot(long currentTick, long preferredTick, long delayTicks, boolean bypassDelay) {
+    private static long reserveUpgradeSlot(long currentTick, long preferredTick, long delayTicks, boolean bypassDelay, long backlogTicks, ModConfig modConfig) {
         synchronized (UPGRADE_SCHEDULER_LOCK) {
-            long coreFactor = Math.max(1L, Runtime.getRuntime().availableProcessors());
-            long spacing = Math.max(1L, delayTicks / coreFactor);
-            long scheduled = bypassDelay
-                ? Math.max(currentTick, NEXT_UPGRADE_SLOT_TICK)
-                : Math.max(preferredTick, NEXT_UPGRADE_SLOT_TICK);
-
-            // If the global slot counter drifts too far ahead (e.g., thousands of mobs
-            // scheduling in a short burst), upgrades can be delayed for minutes/hours.
-            // Cap the backlog so upgrades remain reasonably consistent while still
-            // staggering work to protect TPS.
+            long requested = bypassDelay ? currentTick : preferredTick;
+            // Don't hand out slots the workers can't reach yet; the job would just be rejected.
+            requested = Math.max(requested, currentTick + Math.max(0L, backlogTicks));
+
+            double passesPerTick = modConfig != null ? modConfig.getUpgradePassesPerTick() : 1.0;
+            int burst = Math.max(1, (int) Math.ceil(passesPerTick * 20.0));
+            long scheduled = UPGRADE_PASS_BUCKET.reserve(requested, passesPerTick, burst);
+
+            // If bookings drift too far ahead (e.g., thousands of mobs scheduling in a short
+            // burst), upgrades can be delayed for minutes/hours. Cap the backlog so upgrades
+            // remain reasonably consistent while still pacing work to protect TPS.
             long maxBacklogTicks = Math.max(600L, Math.max(20L, delayTicks) * 10L);
             if (scheduled - currentTick > maxBacklogTicks) {
-                NEXT_UPGRADE_SLOT_TICK = Math.max(preferredTick, currentTick);
-                scheduled = bypassDelay
-                    ? Math.max(currentTick, NEXT_UPGRADE_SLOT_TICK)
-                    : Math.max(preferredTick, NEXT_UPGRADE_SLOT_TICK);
+                UPGRADE_PASS_BUCKET.reset(requested);
+                scheduled = UPGRADE_PASS_BUCKET.reserve(requested, passesPerTick, burst);
             }
-            NEXT_UPGRADE_SLOT_TICK = scheduled + spacing;
             return scheduled;
         }
     }
@@ -1872,17 +2186,27 @@ public class ScalingSystem {
         return seed;
     }
 
-    private static long computeConcurrencyBackoffTicks(ModConfig modConfig, int activeJobs, int maxConcurrentJobs) {
-        long baseDelay = Math.max(20L, getUpgradeProcessingDelayTicks(modConfig));
-        if (maxConcurrentJobs <= 0 || activeJobs <= maxConcurrentJobs) {
-            return baseDelay;
+    /**
+     * Queue priority for this mob's upgrade job (lower runs first): mobs fighting a player come
+     * first, then by distance to the nearest player in 16-block bands, with mobs that are in combat
+     * bumped one band. Mobs with no player in range get {@link UpgradeJobScheduler#PRIORITY_UNWATCHED}.
+     */
+    private static int computeUpgradePriority(MobEntity mob) {
+        if (mob.getTarget() instanceof PlayerEntity || mob.getAttacker() instanceof PlayerEntity) {
+            return UpgradeJobScheduler.PRIORITY_ENGAGED;
+        }
+        PlayerEntity nearest = mob.getWorld().getClosestPlayer(mob, UPGRADE_PRIORITY_PLAYER_RANGE);
+        if (nearest == null) {
+            return UpgradeJobScheduler.PRIORITY_UNWATCHED;
         }
-        long overload = Math.max(1L, activeJobs - maxConcurrentJobs);
-        long step = Math.max(5L, baseDelay / 4L);
-        return baseDelay + (overload * step);
+        int band = 1 + (int) (Math.sqrt(mob.squaredDistanceTo(nearest)) / 16.0);
+        if (mob.getTarget() != null) {
+            band--;
+        }
+        return Math.max(1, Math.min(UpgradeJobScheduler.PRIORITY_UNWATCHED - 1, band));
     }
 
-    private static long computeTicksUntilUpgradeWindow(NbtCompound skillData, int currentTimeOfDay, long currentTick, long upgradeIntervalTicks) {
+    private static long computeTicksUntilUpgradeWindow(NbtCompound skillData, int currentTimeOfDay, long currentTick, long upgradeIntervalTicks, UpgradePhase phase) {
         if (skillData == null || !skillData.contains(NBT_LAST_UPGRADE_MARKER)) {
             return 0L;
         }
@@ -1895,12 +2219,8 @@ public class ScalingSystem {
         if (currentTick <= lastTick) {
             return 0L;
         }
-        long elapsed = currentTick - lastTick;
-        long interval = Math.max(1L, upgradeIntervalTicks);
-        if (elapsed >= interval) {
-            return 0L;
-        }
-        return interval - elapsed;
+        long eligibleTick = phase.alignUp(lastTick + Math.max(1L, upgradeIntervalTicks));
+        return Math.max(0L, eligibleTick - currentTick);
     }
 
     private static long computeLegacyTicksUntilUpgradeWindow(NbtCompound skillData, int currentTimeOfDay, long upgradeIntervalTicks) {
@@ -1971,7 +2291,7 @@ public class ScalingSystem {
         skillData.putBoolean(NBT_EQUIPMENT_PRIMED, false);
     }
 
-    private static boolean submitUpgradeJob(
+    private static UpgradeJobScheduler.Admission submitUpgradeJob(
         MobEntity mob,
         MobWarData data,
         JsonObject config,
@@ -1987,18 +2307,18 @@ public class ScalingSystem {
         boolean bypassConcurrencyLimit
     ) {
         if (mob == null || data == null || config == null || skillData == null || modConfig == null || configSnapshot == null) {
-            return false;
+            return UpgradeJobScheduler.Admission.rejected(getUpgradeProcessingDelayTicks(modConfig));
         }
 
         UpgradeJobScheduler scheduler = UpgradeJobScheduler.getInstance();
-        if (!bypassConcurrencyLimit) {
-            int maxConcurrentJobs = Math.max(1, modConfig.getMaxConcurrentUpgradeJobs());
-            if (scheduler.getActiveJobCount() >= maxConcurrentJobs) {
-                return false;
-            }
+        UUID mobUuid = mob.getUuid();
+        int priority = computeUpgradePriority(mob);
+        int capacity = bypassConcurrencyLimit ? 0 : modConfig.getMaxConcurrentUpgradeJobs();
+        UpgradeJobScheduler.Admission admission = scheduler.tryAdmit(mobUuid, priority, capacity);
+        if (!admission.accepted()) {
+            return admission;
         }
 
-        UUID mobUuid = mob.getUuid();
         EquipmentSnapshot snapshot = EquipmentSnapshot.capture(mob, skillData);
         PENDING_EQUIPMENT_SNAPSHOTS.put(mobUuid, snapshot);
         lockEquipmentForUpgrade(skillData);
@@ -2026,11 +2346,11 @@ public class ScalingSystem {
             currentTick,
             seed
         );
-        scheduler.submit(mobUuid, job);
+        scheduler.submit(mobUuid, priority, new UpgradeWaveKey(config, mobType, configSnapshot, enchantRegistry), job);
         skillData.putBoolean(NBT_UPGRADE_PENDING, true);
         skillData.putBoolean(NBT_WINDOW_APPROVED, true);
         skillData.putLong(NBT_NEXT_UPGRADE_TICK, currentTick);
-        return true;
+        return admission;
     }
 
     private static boolean executeUpgradeNow(
@@ -2070,7 +2390,7 @@ public class ScalingSystem {
         }
         UpgradeComputationResult computation = calculateUpgradeResult(
             mob.getUuid(),
-            skillData.copy(),
+            skillData,
             config,
             mobType,
             enchantRegistry,
@@ -2078,7 +2398,7 @@ public class ScalingSystem {
             totalPoints,
             spentPoints,
             configSnapshot,
-            seed,
+            new Random(seed),
             killCount
         );
 
@@ -2123,10 +2443,12 @@ public class ScalingSystem {
     
     /**
      * Calculates upgrade purchases using the buy/save logic described in JSON configs.
+     * The baseline compound is never mutated; purchases run against a private working copy and
+     * only the keys that differ from the baseline are returned to the caller.
      */
     private static UpgradeComputationResult calculateUpgradeResult(
             UUID mobUuid,
-            NbtCompound skillData,
+            NbtCompound baselineSkillData,
             JsonObject config,
             String mobType,
             Registry<Enchantment> enchantRegistry,
@@ -2134,14 +2456,14 @@ public class ScalingSystem {
             double totalPoints,
             double spentPoints,
             ModConfigSnapshot configSnapshot,
-            long rngSeed,
+            Random random,
             int killCount
     ) {
-        if (mobUuid == null || skillData == null || config == null || configSnapshot == null) {
+        if (mobUuid == null || baselineSkillData == null || config == null || configSnapshot == null || random == null) {
             return null;
         }
 
-        Random random = new Random(rngSeed);
+        NbtCompound skillData = baselineSkillData.copy();
         UpgradeLogBuffer logBuffer = new UpgradeLogBuffer(configSnapshot.debugLogging());
 
         double buyChance = 0.80;
@@ -2233,7 +2555,8 @@ public class ScalingSystem {
         }
 
         logBuffer.logCompletion(purchasedUpgrade, budget, exitReason);
-        return new UpgradeComputationResult(skillData, spentPoints, purchasedUpgrade, Math.max(budget, 0), logBuffer.entries());
+        SkillDataDelta delta = SkillDataDelta.diff(baselineSkillData, skillData);
+        return new UpgradeComputationResult(delta, spentPoints, purchasedUpgrade, Math.max(budget, 0), iterations, logBuffer.entries());
     }
 
     private static UpgradeOption chooseWeightedUpgrade(List<UpgradeOption> options, Random random) {
@@ -2289,6 +2612,82 @@ public class ScalingSystem {
         );
     }
 
+    /**
+     * Apply finished upgrade jobs in priority order until this tick's apply budget is used up.
+     * Whatever is left stays queued for the next tick; the first completion is always taken so a
+     * tiny budget can never stall the queue, but skipped results (unloaded or dead mobs) count
+     * against the budget like applied ones.
+     */
+    public static void drainCompletedUpgrades(net.minecraft.server.MinecraftServer server) {
+        UpgradeJobScheduler scheduler = UpgradeJobScheduler.getInstance();
+        if (server == null || scheduler.getPendingApplyCount() == 0) {
+            return;
+        }
+
+        ModConfig modConfig = ModConfig.getInstance();
+        long budgetNanos = modConfig.getUpgradeApplyBudgetNanos();
+        long upgradeIntervalTicks = getUpgradeIntervalTicks(modConfig);
+        long started = System.nanoTime();
+        int attempts = 0;
+        while (attempts == 0 || System.nanoTime() - started < budgetNanos) {
+            attempts++;
+            UUID mobUuid = scheduler.pollNextCompletion();
+            if (mobUuid == null) {
+                break;
+            }
+            MobEntity mob = findLoadedMob(server, mobUuid);
+            if (mob == null) {
+                // Result stays in the scheduler; processMobTick applies it once the mob is back.
+                continue;
+            }
+            UpgradeJobResult result = scheduler.pollResult(mobUuid);
+            if (result == null) {
+                continue;
+            }
+            MobWarData data = MobWarData.get(mob);
+            JsonObject config = getConfigForMob(mob);
+            if (data == null || config == null || !mob.isAlive()) {
+                PENDING_EQUIPMENT_SNAPSHOTS.remove(mobUuid);
+                abortUpgradesForMob(mob, data);
+                continue;
+            }
+
+            String mobType = config.has("mob_type") ? config.get("mob_type").getAsString() : "hostile";
+            World world = mob.getWorld();
+            applyCompletedUpgrade(mob, data, config, mobType, world.getTime(),
+                getCurrentUpgradeMarker(world, upgradeIntervalTicks), result);
+            MobWarData.save(mob, data);
+        }
+    }
+
+    private static MobEntity findLoadedMob(net.minecraft.server.MinecraftServer server, UUID mobUuid) {
+        for (ServerWorld world : server.getWorlds()) {
+            net.minecraft.entity.Entity entity = world.getEntity(mobUuid);
+            if (entity instanceof MobEntity mob) {
+                return mob;
+            }
+        }
+        return null;
+    }
+
+    private static void applyCompletedUpgrade(
+            MobEntity mob,
+            MobWarData data,
+            JsonObject config,
+            String mobType,
+            long currentTick,
+            int currentTimeOfDay,
+            UpgradeJobResult result) {
+        long started = System.nanoTime();
+        EquipmentSnapshot snapshot = PENDING_EQUIPMENT_SNAPSHOTS.remove(mob.getUuid());
+        if (snapshot == null) {
+            snapshot = EquipmentSnapshot.capture(mob, data.getSkillData());
+        }
+        applyUpgradeComputation(mob, data, config, mobType, currentTick, currentTimeOfDay, result.computation(), snapshot);
+        clearUpgradeSchedule(data.getSkillData());
+        UpgradeTelemetry.recordApplied(result, result.computation().iterations(), started, System.nanoTime() - started);
+    }
+
     private static void applyUpgradeComputation(
             MobEntity mob,
             MobWarData data,
@@ -2301,46 +2700,29 @@ public class ScalingSystem {
         if (mob == null || data == null || config == null || computation == null) {
             return;
         }
-        NbtCompound computedData = computation.skillData();
-        if (computedData == null) {
+        SkillDataDelta delta = computation.delta();
+        if (delta == null) {
             return;
         }
 
-        NbtCompound existingData = data.getSkillData();
-        boolean previouslyDisarmed = existingData != null && existingData.getBoolean(NBT_INITIAL_DISARMED);
-
-        // Async upgrade jobs operate on a snapshot of skillData taken when the job was submitted.
-        // Replacing the entire compound can roll back runtime/cache fields that have been updated
-        // on the main thread since then (e.g., config fingerprint, day point cache).
-        NbtCompound mergedData = existingData != null ? existingData.copy() : new NbtCompound();
-        mergeNbtCompound(mergedData, computedData);
-
-        // Preserve fields that are maintained on the hot tick path and should never roll back.
-        if (existingData != null) {
-            copyNbtKeyIfPresent(existingData, mergedData, NBT_CONFIG_FINGERPRINT);
-            copyNbtKeyIfPresent(existingData, mergedData, NBT_LAST_ACCOUNTED_DAY);
-            copyNbtKeyIfPresent(existingData, mergedData, NBT_TOTAL_POINT_CACHE);
-            copyNbtKeyIfPresent(existingData, mergedData, NBT_NEXT_BUDGET_CHECK_TICK);
-            copyNbtKeyIfPresent(existingData, mergedData, NBT_SPAWN_LOGGED);
-            copyNbtKeyIfPresent(existingData, mergedData, NBT_FALLBACK_INITIALIZED);
-            copyNbtKeyIfPresent(existingData, mergedData, NBT_FALLBACK_TYPE);
-        }
-
-        data.setSkillData(mergedData);
-        data.setSpentPoints(computation.spentPoints());
         NbtCompound skillData = data.getSkillData();
         if (skillData == null) {
-            return;
+            skillData = new NbtCompound();
+            data.setSkillData(skillData);
         }
 
-        if (previouslyDisarmed) {
-            skillData.putBoolean(NBT_INITIAL_DISARMED, true);
-        }
+        // Async upgrade jobs operate on a snapshot of skillData taken when the job was submitted.
+        // Only the keys the job actually changed are written back, so runtime/cache fields updated
+        // on the main thread since then (e.g., config fingerprint, day point cache) never roll back.
+        delta.applyTo(skillData);
+        data.setSpentPoints(computation.spentPoints());
 
         skillData.putInt(NBT_LAST_UPGRADE_MARKER, currentTimeOfDay);
         skillData.putLong(NBT_LAST_UPGRADE_TICK, currentTick);
         skillData.putBoolean(NBT_UPGRADE_WRAP_STATE, false);
         skillData.putBoolean(NBT_EQUIPMENT_PRIMED, false);
+        data.markAllEquipmentDirty();
+        data.invalidateDamageAbilities();
 
         UpgradeLogger logger = new UpgradeLogger(mob);
         logger.replay(computation.logEntries());
@@ -2348,46 +2730,24 @@ public class ScalingSystem {
         if (mob.getWorld() instanceof ServerWorld serverWorld) {
             // Force overrides during upgrade passes so new tiers replace previously equipped items
             // instead of being blocked by the player-override guard that protects manual gear swaps.
-            applyEquipment(mob, data, config, serverWorld, snapshot, true);
+            // Without a pre-upgrade snapshot we cannot tell which slots still hold valid gear, so
+            // fall back to re-equipping everything.
+            if (snapshot != null) {
+                applyEquipment(mob, data, config, serverWorld, snapshot, true, delta.affectedSlots());
+            } else {
+                applyEquipment(mob, data, config, serverWorld, null, true);
+            }
         }
 
-        applyEffects(mob, data, config, mobType, currentTick);
+        if (delta.effectsChanged()) {
+            applyEffects(mob, data, config, mobType, currentTick);
+        }
 
         if (computation.purchasedUpgrade()) {
             spawnUpgradeParticles(mob);
         }
     }
 
-    private static void mergeNbtCompound(NbtCompound target, NbtCompound source) {
-        if (target == null || source == null) {
-            return;
-        }
-        for (String key : source.getKeys()) {
-            if (key == null) {
-                continue;
-            }
-            net.minecraft.nbt.NbtElement element = source.get(key);
-            if (element == null) {
-                continue;
-            }
-            target.put(key, element.copy());
-        }
-    }
-
-    private static void copyNbtKeyIfPresent(NbtCompound source, NbtCompound target, String key) {
-        if (source == null || target == null || key == null) {
-            return;
-        }
-        if (!source.contains(key)) {
-            return;
-        }
-        net.minecraft.nbt.NbtElement element = source.get(key);
-        if (element == null) {
-            return;
-        }
-        target.put(key, element.copy());
-    }
-    
     /**
      * Get list of affordable upgrades from the mob's JSON config
      */
@@ -2711,6 +3071,8 @@ public class ScalingSystem {
      */
     private static void applyEffects(MobEntity mob, MobWarData data, JsonObject config, String mobType, long currentTick) {
         NbtCompound skillData = data.getSkillData();
+        data.invalidateExpectedEffects();
+        data.invalidateDamageAbilities();
         
         if (!config.has("tree")) return;
         JsonObject tree = config.getAsJsonObject("tree");
@@ -2811,62 +3173,88 @@ public class ScalingSystem {
         }
     }
 
-    private static void ensureResistanceEffects(MobEntity mob, NbtCompound skillData, JsonObject effects) {
-        if (mob == null || skillData == null || effects == null || !effects.has("resistance")) {
+    private static boolean resistanceLevelGrantsFire(JsonArray resistanceLevels, int resolvedLevel) {
+        if (resistanceLevels == null || resolvedLevel <= 0 || resolvedLevel > resistanceLevels.size()) {
+            return false;
+        }
+        JsonObject levelData = resistanceLevels.get(resolvedLevel - 1).getAsJsonObject();
+        return levelData.has("fire_resistance") && levelData.get("fire_resistance").getAsBoolean();
+    }
+
+    /**
+     * Re-adds permanent upgrade effects that went missing. The expected set is compiled into a
+     * bitset once per upgrade change; the mob is only checked against it after one of its effects
+     * was removed (milk, /effect clear, expiry; see MobStatusEffectMixin), after an upgrade, or on
+     * the staggered sweep. Steady-state ticks do no effect lookups at all.
+     */
+    private static void refreshMissingEffects(MobEntity mob, MobWarData data, NbtCompound skillData, JsonObject config, String mobType) {
+        if (skillData == null || mob == null || data == null || config == null) {
             return;
         }
-        int resistanceLevel = skillData.getInt("effect_resistance");
-        if (resistanceLevel <= 0) {
+        if ((mob.getWorld().getTime() + mob.getId()) % EFFECT_SWEEP_INTERVAL_TICKS == 0L) {
+            data.invalidateExpectedEffects();
+        }
+        if (!data.takeEffectsDirty()) {
             return;
         }
-        JsonArray resistanceLevels = effects.getAsJsonArray("resistance");
-        int resolvedLevel = Math.min(resistanceLevel, resistanceLevels.size());
-        if (resolvedLevel <= 0) {
+        JsonObject effects = getPotionEffectsSection(config, mobType);
+        int expected = data.getExpectedEffects();
+        if (expected < 0) {
+            expected = compileExpectedEffects(skillData, effects);
+            data.setExpectedEffects(expected);
+        }
+        if (expected == 0) {
             return;
         }
-        boolean needsFire = resistanceLevelGrantsFire(resistanceLevels, resolvedLevel);
-        boolean missingResistance = !mob.hasStatusEffect(StatusEffects.RESISTANCE);
-        boolean missingFire = needsFire && !mob.hasStatusEffect(StatusEffects.FIRE_RESISTANCE);
+        if ((expected & EFFECT_BIT_REGENERATION) != 0 && !mob.hasStatusEffect(StatusEffects.REGENERATION)) {
+            applyPotionEffect(mob, skillData, effects, "regeneration", StatusEffects.REGENERATION, "effect_regeneration", "regen_level");
+        }
+        if ((expected & EFFECT_BIT_HEALTH_BOOST) != 0 && !mob.hasStatusEffect(StatusEffects.HEALTH_BOOST)) {
+            applyPotionEffect(mob, skillData, effects, "health_boost", StatusEffects.HEALTH_BOOST, "effect_health_boost", null);
+        }
+        if ((expected & EFFECT_BIT_STRENGTH) != 0 && !mob.hasStatusEffect(StatusEffects.STRENGTH)) {
+            applyPotionEffect(mob, skillData, effects, "strength", StatusEffects.STRENGTH, "effect_strength", "strength_level");
+        }
+        if ((expected & EFFECT_BIT_SPEED) != 0 && !mob.hasStatusEffect(StatusEffects.SPEED)) {
+            applyPotionEffect(mob, skillData, effects, "speed", StatusEffects.SPEED, "effect_speed", "speed_level");
+        }
+        boolean missingResistance = (expected & EFFECT_BIT_RESISTANCE) != 0 && !mob.hasStatusEffect(StatusEffects.RESISTANCE);
+        boolean missingFire = (expected & EFFECT_BIT_FIRE_RESISTANCE) != 0 && !mob.hasStatusEffect(StatusEffects.FIRE_RESISTANCE);
         if (missingResistance || missingFire) {
             applyResistanceEffect(mob, skillData, effects);
         }
     }
 
-    private static boolean resistanceLevelGrantsFire(JsonArray resistanceLevels, int resolvedLevel) {
-        if (resistanceLevels == null || resolvedLevel <= 0 || resolvedLevel > resistanceLevels.size()) {
-            return false;
-        }
-        JsonObject levelData = resistanceLevels.get(resolvedLevel - 1).getAsJsonObject();
-        return levelData.has("fire_resistance") && levelData.get("fire_resistance").getAsBoolean();
-    }
-
-    private static void refreshMissingEffects(MobEntity mob, NbtCompound skillData, JsonObject config, String mobType) {
-        if (skillData == null || mob == null || config == null || !config.has("tree")) {
-            return;
+    private static JsonObject getPotionEffectsSection(JsonObject config, String mobType) {
+        if (config == null || !config.has("tree")) {
+            return null;
         }
         JsonObject tree = config.getAsJsonObject("tree");
-        String effectsKey = mobType.equals("passive") ? "passive_potion_effects" : "hostile_neutral_potion_effects";
-        if (!tree.has(effectsKey)) {
-            return;
-        }
-        JsonObject effects = tree.getAsJsonObject(effectsKey);
-        ensureEffectPresent(mob, skillData, effects, "regeneration", StatusEffects.REGENERATION, "effect_regeneration", "regen_level");
-        ensureEffectPresent(mob, skillData, effects, "health_boost", StatusEffects.HEALTH_BOOST, "effect_health_boost", null);
-        ensureEffectPresent(mob, skillData, effects, "strength", StatusEffects.STRENGTH, "effect_strength", "strength_level");
-        ensureEffectPresent(mob, skillData, effects, "speed", StatusEffects.SPEED, "effect_speed", "speed_level");
-        ensureResistanceEffects(mob, skillData, effects);
+        String effectsKey = "passive".equals(mobType) ? "passive_potion_effects" : "hostile_neutral_potion_effects";
+        return tree.has(effectsKey) ? tree.getAsJsonObject(effectsKey) : null;
     }
 
-    private static void ensureEffectPresent(MobEntity mob, NbtCompound skillData, JsonObject effects,
-            String effectName, RegistryEntry<net.minecraft.entity.effect.StatusEffect> effect,
-            String skillKey, String levelKey) {
-        if (skillData.getInt(skillKey) <= 0) {
-            return;
+    private static int compileExpectedEffects(NbtCompound skillData, JsonObject effects) {
+        if (skillData == null || effects == null) {
+            return 0;
         }
-        if (mob.hasStatusEffect(effect)) {
-            return;
+        int expected = 0;
+        if (skillData.getInt("effect_regeneration") > 0) expected |= EFFECT_BIT_REGENERATION;
+        if (skillData.getInt("effect_health_boost") > 0) expected |= EFFECT_BIT_HEALTH_BOOST;
+        if (skillData.getInt("effect_strength") > 0) expected |= EFFECT_BIT_STRENGTH;
+        if (skillData.getInt("effect_speed") > 0) expected |= EFFECT_BIT_SPEED;
+        int resistanceLevel = skillData.getInt("effect_resistance");
+        if (resistanceLevel > 0 && effects.has("resistance")) {
+            JsonArray resistanceLevels = effects.getAsJsonArray("resistance");
+            int resolvedLevel = Math.min(resistanceLevel, resistanceLevels.size());
+            if (resolvedLevel > 0) {
+                expected |= EFFECT_BIT_RESISTANCE;
+                if (resistanceLevelGrantsFire(resistanceLevels, resolvedLevel)) {
+                    expected |= EFFECT_BIT_FIRE_RESISTANCE;
+                }
+            }
         }
-        applyPotionEffect(mob, skillData, effects, effectName, effect, skillKey, levelKey);
+        return expected;
     }
 
     private static void handleUndeadHealingPulse(MobEntity mob, NbtCompound skillData, long currentTick) {
@@ -2882,19 +3270,19 @@ public class ScalingSystem {
         }
 
         UUID mobUuid = mob.getUuid();
-        Map<String, Long> cooldowns = ABILITY_COOLDOWNS.computeIfAbsent(mobUuid, k -> new HashMap<>());
-        long lastPulse = cooldowns.getOrDefault(ABILITY_KEY_UNDEAD_PULSE, Long.MIN_VALUE);
-        if (currentTick - lastPulse < UNDEAD_HARMING_INTERVAL_TICKS) {
+        long lastPulse = ABILITY_COOLDOWNS.get(mobUuid, AbilityTimerStore.Timer.UNDEAD_PULSE, Long.MIN_VALUE);
+        if (lastPulse != Long.MIN_VALUE && currentTick - lastPulse < UNDEAD_HARMING_INTERVAL_TICKS) {
             return;
         }
 
         int baseAmplifier = Math.max(0, Math.min(regenerationLevel, 2) - 1);
         applyInstantDamagePulse(mob, baseAmplifier);
-        cooldowns.put(ABILITY_KEY_UNDEAD_PULSE, currentTick);
+        ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.UNDEAD_PULSE, currentTick,
+            currentTick, currentTick + UNDEAD_HARMING_INTERVAL_TICKS);
 
-        long burstUntil = cooldowns.getOrDefault(ABILITY_KEY_UNDEAD_BURST, 0L);
+        long burstUntil = ABILITY_COOLDOWNS.get(mobUuid, AbilityTimerStore.Timer.UNDEAD_BURST_UNTIL, 0L);
         if (burstUntil > 0L && burstUntil < currentTick) {
-            cooldowns.remove(ABILITY_KEY_UNDEAD_BURST);
+            ABILITY_COOLDOWNS.remove(mobUuid, AbilityTimerStore.Timer.UNDEAD_BURST_UNTIL);
             burstUntil = 0L;
         }
 
@@ -2941,17 +3329,17 @@ public class ScalingSystem {
         if (mob == null || mob.getWorld().isClient()) {
             return;
         }
-        Map<String, Long> cooldowns = ABILITY_COOLDOWNS.get(mob.getUuid());
-        if (cooldowns == null) {
+        UUID mobUuid = mob.getUuid();
+        long glowUntil = ABILITY_COOLDOWNS.get(mobUuid, AbilityTimerStore.Timer.INVIS_GLOW_UNTIL, 0L);
+        if (glowUntil == 0L) {
             return;
         }
-        long glowUntil = cooldowns.getOrDefault(ABILITY_KEY_INVIS_GLOW_UNTIL, 0L);
         if (glowUntil <= currentTick || !mob.hasStatusEffect(StatusEffects.INVISIBILITY)) {
-            cooldowns.remove(ABILITY_KEY_INVIS_GLOW_UNTIL);
-            cooldowns.remove(ABILITY_KEY_INVIS_GLOW_NEXT);
+            ABILITY_COOLDOWNS.remove(mobUuid, AbilityTimerStore.Timer.INVIS_GLOW_UNTIL);
+            ABILITY_COOLDOWNS.remove(mobUuid, AbilityTimerStore.Timer.INVIS_GLOW_NEXT);
             return;
         }
-        long nextGlow = cooldowns.getOrDefault(ABILITY_KEY_INVIS_GLOW_NEXT, 0L);
+        long nextGlow = ABILITY_COOLDOWNS.get(mobUuid, AbilityTimerStore.Timer.INVIS_GLOW_NEXT, 0L);
         if (currentTick >= nextGlow) {
             mob.addStatusEffect(new StatusEffectInstance(
                 StatusEffects.GLOWING,
@@ -2961,18 +3349,21 @@ public class ScalingSystem {
                 true,
                 true
             ));
-            cooldowns.put(ABILITY_KEY_INVIS_GLOW_NEXT, currentTick + INVIS_GLOW_INTERVAL_TICKS);
+            ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.INVIS_GLOW_NEXT, currentTick + INVIS_GLOW_INTERVAL_TICKS,
+                currentTick, glowUntil);
         }
     }
 
-    private static void startInvisibilityGlowFlicker(MobEntity mob, Map<String, Long> cooldowns,
-            long currentTick, int durationSeconds) {
-        if (mob == null || cooldowns == null) {
+    private static void startInvisibilityGlowFlicker(MobEntity mob, long currentTick, int durationSeconds) {
+        if (mob == null) {
             return;
         }
+        UUID mobUuid = mob.getUuid();
         long windowTicks = Math.max(40L, durationSeconds * 20L);
-        cooldowns.put(ABILITY_KEY_INVIS_GLOW_UNTIL, currentTick + windowTicks);
-        cooldowns.put(ABILITY_KEY_INVIS_GLOW_NEXT, currentTick);
+        ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.INVIS_GLOW_UNTIL, currentTick + windowTicks,
+            currentTick, currentTick + windowTicks);
+        ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.INVIS_GLOW_NEXT, currentTick,
+            currentTick, currentTick + windowTicks);
         mob.addStatusEffect(new StatusEffectInstance(
             StatusEffects.GLOWING,
             INVIS_GLOW_DURATION_TICKS,
@@ -2992,40 +3383,65 @@ public class ScalingSystem {
      */
     private static void applyEquipment(MobEntity mob, MobWarData data, JsonObject config, ServerWorld world,
             EquipmentSnapshot snapshot, boolean forceOverride) {
+        applyEquipment(mob, data, config, world, snapshot, forceOverride, ALL_EQUIPMENT_SLOTS);
+    }
+
+    /**
+     * Apply equipment for the given slots only. Slots outside the set keep their current item and
+     * get their equipped flag restored from the snapshot (upgrade passes clear all flags up front).
+     */
+    private static void applyEquipment(MobEntity mob, MobWarData data, JsonObject config, ServerWorld world,
+            EquipmentSnapshot snapshot, boolean forceOverride, Set<EquipmentSlot> slots) {
         NbtCompound skillData = data.getSkillData();
         
         if (!config.has("tree")) return;
         JsonObject tree = config.getAsJsonObject("tree");
         
-        logEquipmentDebug(mob, "equipment", "Applying equipment (forceOverride=" + forceOverride + ")");
+        logEquipmentDebug(mob, "equipment", "Applying equipment (forceOverride=" + forceOverride + ", slots=" + slots + ")");
+
+        if (snapshot != null && slots.size() < ALL_EQUIPMENT_SLOTS.size()) {
+            snapshot.restoreEquippedFlags(skillData, slots);
+        }
 
         // Apply weapon
-        if (tree.has("weapon")) {
-            JsonElement weaponElement = tree.get("weapon");
-            JsonObject weapon = getLockedWeaponForMob(weaponElement, mob);
-            if (weapon != null) {
-                boolean scopedWeapon = hasMultipleWeaponOptions(weaponElement);
-                String weaponKey = scopedWeapon ? getWeaponScopeIdentifier(weapon) : "";
-                applyWeapon(mob, skillData, weapon, world, scopedWeapon, weaponKey, snapshot, forceOverride);
+        if (slots.contains(EquipmentSlot.MAINHAND)) {
+            if (tree.has("weapon")) {
+                JsonElement weaponElement = tree.get("weapon");
+                JsonObject weapon = getLockedWeaponForMob(weaponElement, mob);
+                if (weapon != null) {
+                    boolean scopedWeapon = hasMultipleWeaponOptions(weaponElement);
+                    String weaponKey = scopedWeapon ? getWeaponScopeIdentifier(weapon) : "";
+                    applyWeapon(mob, skillData, weapon, world, scopedWeapon, weaponKey, snapshot, forceOverride);
+                } else {
+                    logEquipmentDebug(mob, "weapon", "Weapon config missing after locking—skipping equip");
+                }
             } else {
-                logEquipmentDebug(mob, "weapon", "Weapon config missing after locking—skipping equip");
+                logEquipmentDebug(mob, "weapon", "Mob tree does not define weapon entry");
             }
-        } else {
-            logEquipmentDebug(mob, "weapon", "Mob tree does not define weapon entry");
         }
         
         // Apply shield
-        if (tree.has("shield")) {
-            applyShield(mob, skillData, tree.getAsJsonObject("shield"), world, snapshot, forceOverride);
-        } else {
-            logEquipmentDebug(mob, "shield", "Mob tree does not define shield entry");
+        if (slots.contains(EquipmentSlot.OFFHAND)) {
+            if (tree.has("shield")) {
+                applyShield(mob, skillData, tree.getAsJsonObject("shield"), world, snapshot, forceOverride);
+            } else {
+                logEquipmentDebug(mob, "shield", "Mob tree does not define shield entry");
+            }
         }
         
         // Apply armor
-        applyArmor(mob, skillData, tree, "helmet", EquipmentSlot.HEAD, world, snapshot, forceOverride);
-        applyArmor(mob, skillData, tree, "chestplate", EquipmentSlot.CHEST, world, snapshot, forceOverride);
-        applyArmor(mob, skillData, tree, "leggings", EquipmentSlot.LEGS, world, snapshot, forceOverride);
-        applyArmor(mob, skillData, tree, "boots", EquipmentSlot.FEET, world, snapshot, forceOverride);
+        if (slots.contains(EquipmentSlot.HEAD)) {
+            applyArmor(mob, skillData, tree, "helmet", EquipmentSlot.HEAD, world, snapshot, forceOverride);
+        }
+        if (slots.contains(EquipmentSlot.CHEST)) {
+            applyArmor(mob, skillData, tree, "chestplate", EquipmentSlot.CHEST, world, snapshot, forceOverride);
+        }
+        if (slots.contains(EquipmentSlot.LEGS)) {
+            applyArmor(mob, skillData, tree, "leggings", EquipmentSlot.LEGS, world, snapshot, forceOverride);
+        }
+        if (slots.contains(EquipmentSlot.FEET)) {
+            applyArmor(mob, skillData, tree, "boots", EquipmentSlot.FEET, world, snapshot, forceOverride);
+        }
 
         skillData.putBoolean(NBT_EQUIPMENT_PRIMED, true);
         skillData.putBoolean(NBT_INITIAL_DISARMED, true);
@@ -3065,7 +3481,7 @@ public class ScalingSystem {
             return;
         }
 
-        ItemStack current = mob.getEquippedStack(EquipmentSlot.MAINHAND);
+        ItemStack current = EquipmentSyncCoalescer.getEquipped(mob, EquipmentSlot.MAINHAND);
         boolean blockingItem = !current.isEmpty() && !isScalingEquippedItem(skillData, NBT_WEAPON_LAST_ITEM, current);
         if (blockingItem) {
             if (!dropAndClearSlotOnce(mob, EquipmentSlot.MAINHAND)) {
@@ -3080,7 +3496,7 @@ public class ScalingSystem {
         setPlayerOverride(skillData, OVERRIDE_KEY_WEAPON, false);
         
         // Apply enchants from skill data (supports modded enchants)
-        applyEnchantmentsFromSkillData(weapon, skillData, enchantPrefix, world);
+        weapon = createEnchantedStack(weapon, skillData, enchantPrefix, world);
         
         // Apply durability mastery or preserve previous damage if mastery unchanged
         ItemStack previousWeapon = snapshot != null ? snapshot.getMainHand() : ItemStack.EMPTY;
@@ -3090,7 +3506,7 @@ public class ScalingSystem {
         }
         
         // Equip it
-        mob.equipStack(EquipmentSlot.MAINHAND, weapon);
+        EquipmentSyncCoalescer.stage(mob, EquipmentSlot.MAINHAND, weapon);
         logEquipmentDebug(mob, "weapon", "Equipped tier " + weaponTierLevel + " item " + weapon.getItem());
         skillData.putBoolean("weapon_equipped", true);
         trackEquippedItem(skillData, NBT_WEAPON_LAST_ITEM, weapon);
@@ -3114,7 +3530,7 @@ public class ScalingSystem {
         }
 
         boolean previouslyEquipped = skillData.getBoolean("shield_equipped");
-        ItemStack current = mob.getEquippedStack(EquipmentSlot.OFFHAND);
+        ItemStack current = EquipmentSyncCoalescer.getEquipped(mob, EquipmentSlot.OFFHAND);
         boolean blockingItem = !current.isEmpty() && !isScalingEquippedItem(skillData, NBT_SHIELD_LAST_ITEM, current);
         if (blockingItem) {
             if (!dropAndClearSlotOnce(mob, EquipmentSlot.OFFHAND)) {
@@ -3131,7 +3547,7 @@ public class ScalingSystem {
         ItemStack shield = new ItemStack(Items.SHIELD);
         
         // Apply enchants from skill data (supports modded enchants)
-        applyEnchantmentsFromSkillData(shield, skillData, "shield_enchant_", world);
+        shield = createEnchantedStack(shield, skillData, "shield_enchant_", world);
         
         // Apply durability mastery or preserve damage
         ItemStack previousShield = snapshot != null ? snapshot.getOffHand() : ItemStack.EMPTY;
@@ -3141,7 +3557,7 @@ public class ScalingSystem {
         }
         
         // Equip it
-        mob.equipStack(EquipmentSlot.OFFHAND, shield);
+        EquipmentSyncCoalescer.stage(mob, EquipmentSlot.OFFHAND, shield);
         logEquipmentDebug(mob, "shield", "Equipped shield with enchants/masteries applied");
         skillData.putBoolean("shield_equipped", true);
         trackEquippedItem(skillData, NBT_SHIELD_LAST_ITEM, shield);
@@ -3166,7 +3582,7 @@ public class ScalingSystem {
             logEquipmentDebug(mob, slotName, "Tier 0 -> clearing slot");
             skillData.putBoolean(slotName + "_equipped", false);
             setPlayerOverride(skillData, getArmorOverrideKey(slotName), false);
-            mob.equipStack(slot, ItemStack.EMPTY);
+            EquipmentSyncCoalescer.stage(mob, slot, ItemStack.EMPTY);
             trackEquippedItem(skillData, getArmorTrackingKey(slotName), ItemStack.EMPTY);
             return;
         }
@@ -3189,7 +3605,7 @@ public class ScalingSystem {
             return;
         }
 
-        ItemStack current = mob.getEquippedStack(slot);
+        ItemStack current = EquipmentSyncCoalescer.getEquipped(mob, slot);
         String trackingKey = getArmorTrackingKey(slotName);
         boolean previouslyEquipped = skillData.getBoolean(slotName + "_equipped");
         boolean blockingItem = !current.isEmpty() && !isScalingEquippedItem(skillData, trackingKey, current);
@@ -3206,7 +3622,7 @@ public class ScalingSystem {
         setPlayerOverride(skillData, getArmorOverrideKey(slotName), false);
         
         // Apply enchants from skill data (supports modded enchants)
-        applyEnchantmentsFromSkillData(armor, skillData, slotName + "_enchant_", world);
+        armor = createEnchantedStack(armor, skillData, slotName + "_enchant_", world);
         
         String durabilityKey = slotName + "_durability_mastery";
         ItemStack previousArmor = snapshot != null ? snapshot.getArmor(slot) : ItemStack.EMPTY;
@@ -3219,7 +3635,7 @@ public class ScalingSystem {
         }
         
         // Equip it
-        mob.equipStack(slot, armor);
+        EquipmentSyncCoalescer.stage(mob, slot, armor);
         logEquipmentDebug(mob, slotName, "Equipped tier " + tier + " item " + armor.getItem());
         skillData.putBoolean(slotName + "_equipped", true);
         trackEquippedItem(skillData, trackingKey, armor);
@@ -3234,7 +3650,7 @@ public class ScalingSystem {
             return false;
         }
         if (skillData.getInt("weapon_tier") > 0) {
-            ItemStack weapon = mob.getEquippedStack(EquipmentSlot.MAINHAND);
+            ItemStack weapon = EquipmentSyncCoalescer.getEquipped(mob, EquipmentSlot.MAINHAND);
             if (weapon.isEmpty()) {
                 return true;
             }
@@ -3243,7 +3659,7 @@ public class ScalingSystem {
             }
         }
         if (skillData.getInt("has_shield") > 0) {
-            ItemStack shield = mob.getEquippedStack(EquipmentSlot.OFFHAND);
+            ItemStack shield = EquipmentSyncCoalescer.getEquipped(mob, EquipmentSlot.OFFHAND);
             if (shield.isEmpty()) {
                 return true;
             }
@@ -3263,14 +3679,14 @@ public class ScalingSystem {
     }
 
     private static boolean isArmorSlotMissing(MobEntity mob, NbtCompound skillData, EquipmentSlot slot, String slotPrefix) {
-        return skillData.getInt(slotPrefix + "_tier") > 0 && mob.getEquippedStack(slot).isEmpty();
+        return skillData.getInt(slotPrefix + "_tier") > 0 && EquipmentSyncCoalescer.getEquipped(mob, slot).isEmpty();
     }
 
     private static boolean isArmorSlotMismatched(MobEntity mob, NbtCompound skillData, EquipmentSlot slot, String slotPrefix) {
         if (skillData.getInt(slotPrefix + "_tier") <= 0) {
             return false;
         }
-        ItemStack stack = mob.getEquippedStack(slot);
+        ItemStack stack = EquipmentSyncCoalescer.getEquipped(mob, slot);
         if (stack.isEmpty()) {
             return false;
         }
@@ -3312,6 +3728,47 @@ public class ScalingSystem {
         return slotPrefix + "_player_override";
     }
 
+    private static String getEquippedFlagKey(EquipmentSlot slot) {
+        return switch (slot) {
+            case MAINHAND -> "weapon_equipped";
+            case OFFHAND -> "shield_equipped";
+            case HEAD -> "helmet_equipped";
+            case CHEST -> "chestplate_equipped";
+            case LEGS -> "leggings_equipped";
+            case FEET -> "boots_equipped";
+            default -> "";
+        };
+    }
+
+    /**
+     * Maps a skillData key to the equipment slot it configures, or null for keys that do not
+     * affect equipped items (effects, abilities, enchant cost bumps, bookkeeping).
+     */
+    private static EquipmentSlot getEquipmentSlotForSkillKey(String key) {
+        if (key == null || key.startsWith("enchant_cost_bump")) {
+            return null;
+        }
+        if (key.startsWith("weapon_")) {
+            return EquipmentSlot.MAINHAND;
+        }
+        if (key.startsWith("shield_") || "has_shield".equals(key)) {
+            return EquipmentSlot.OFFHAND;
+        }
+        if (key.startsWith("helmet_")) {
+            return EquipmentSlot.HEAD;
+        }
+        if (key.startsWith("chestplate_")) {
+            return EquipmentSlot.CHEST;
+        }
+        if (key.startsWith("leggings_")) {
+            return EquipmentSlot.LEGS;
+        }
+        if (key.startsWith("boots_")) {
+            return EquipmentSlot.FEET;
+        }
+        return null;
+    }
+
     private static String getArmorTrackingKey(String slotPrefix) {
         return slotPrefix + NBT_ARMOR_LAST_ITEM_SUFFIX;
     }
@@ -3345,6 +3802,76 @@ public class ScalingSystem {
         }
     }
     
+    /**
+     * Returns {@code base} with the enchantments stored in skill data, copied from a shared template
+     * so identical loadouts (same item, same levels) only build their enchantment component once.
+     * Falls back to enchanting {@code base} directly when it already carries components.
+     */
+    private static ItemStack createEnchantedStack(ItemStack base, NbtCompound skillData, String prefix, ServerWorld world) {
+        // Before the template lookup: a cache hit skips applyEnchantmentsFromSkillData entirely.
+        migrateLegacyEnchantKeys(skillData, prefix);
+        if (base == null || base.isEmpty() || skillData == null || prefix == null || world == null
+                || !base.getComponentChanges().isEmpty()) {
+            applyEnchantmentsFromSkillData(base, skillData, prefix, world);
+            return base;
+        }
+
+        Registry<Enchantment> enchantRegistry = world.getRegistryManager().get(RegistryKeys.ENCHANTMENT);
+        if (ENCHANTED_TEMPLATE_REGISTRY != enchantRegistry) {
+            ENCHANTED_TEMPLATES.clear();
+            ENCHANTED_TEMPLATE_REGISTRY = enchantRegistry;
+        }
+
+        EnchantTemplateKey key = new EnchantTemplateKey(base.getItem(),
+            ModConfig.getInstance().allowModdedEnchantments, describeStoredEnchantLevels(skillData, prefix));
+        ItemStack template = ENCHANTED_TEMPLATES.get(key);
+        if (template != null) {
+            UpgradeTelemetry.recordTemplateReused();
+            return template.copy();
+        }
+
+        applyEnchantmentsFromSkillData(base, skillData, prefix, world);
+        UpgradeTelemetry.recordTemplateBuilt();
+        if (ENCHANTED_TEMPLATES.size() >= MAX_ENCHANTED_TEMPLATES) {
+            ENCHANTED_TEMPLATES.clear();
+        }
+        ENCHANTED_TEMPLATES.put(key, base.copy());
+        return base;
+    }
+
+    /**
+     * Canonical "id=level;..." string of the positive enchant levels under {@code prefix}, sorted by
+     * enchantment id. Legacy and id-based keys for the same enchantment collapse to one entry.
+     */
+    private static String describeStoredEnchantLevels(NbtCompound skillData, String prefix) {
+        java.util.TreeMap<String, Integer> levels = null;
+        for (String key : skillData.getKeys()) {
+            if (!key.startsWith(prefix)) {
+                continue;
+            }
+            int storedLevel = skillData.getInt(key);
+            if (storedLevel <= 0) {
+                continue;
+            }
+            Identifier enchantId = decodeEnchantmentIdSuffix(key.substring(prefix.length()));
+            if (enchantId == null) {
+                continue;
+            }
+            if (levels == null) {
+                levels = new java.util.TreeMap<>();
+            }
+            levels.merge(enchantId.toString(), storedLevel, Math::max);
+        }
+        if (levels == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Integer> entry : levels.entrySet()) {
+            builder.append(entry.getKey()).append('=').append(entry.getValue()).append(';');
+        }
+        return builder.toString();
+    }
+
     /**
      * Apply enchantments from NBT skill data to an item.
      *
@@ -3370,10 +3897,7 @@ public class ScalingSystem {
         ItemEnchantmentsComponent normalizedExisting = normalizeEnchantmentsComponent(existing, enchantRegistry);
         ItemEnchantmentsComponent.Builder builder = new ItemEnchantmentsComponent.Builder(normalizedExisting);
 
-        Set<String> keys = new HashSet<>(skillData.getKeys());
-        List<String> legacyKeysToRemove = new ArrayList<>();
-
-        for (String key : keys) {
+        for (String key : skillData.getKeys()) {
             if (!key.startsWith(prefix)) {
                 continue;
             }
@@ -3404,27 +3928,53 @@ public class ScalingSystem {
 
             int clamped = Math.min(storedLevel, Math.max(1, enchantment.getMaxLevel()));
             builder.add(entry, clamped);
+        }
 
-            // Migrate legacy minecraft keys to the new id-based format.
-            if (!suffix.contains(ENCHANT_ID_SEPARATOR) && "minecraft".equals(enchantId.getNamespace())) {
-                String encodedKey = prefix + encodeEnchantmentId(enchantId);
-                if (!skillData.contains(encodedKey)) {
-                    skillData.putInt(encodedKey, storedLevel);
-                }
-                legacyKeysToRemove.add(key);
+        item.set(DataComponentTypes.ENCHANTMENTS, builder.build());
+    }
+
+    /**
+     * Migrate legacy minecraft enchant keys ({prefix}{path}) under {@code prefix} to the id-based
+     * format. Kept apart from building the stack so template cache hits migrate too.
+     */
+    private static void migrateLegacyEnchantKeys(NbtCompound skillData, String prefix) {
+        if (skillData == null || prefix == null) {
+            return;
+        }
+        List<String> legacyKeysToRemove = null;
+        for (String key : skillData.getKeys()) {
+            if (!key.startsWith(prefix)) {
+                continue;
+            }
+            String suffix = key.substring(prefix.length());
+            if (suffix.contains(ENCHANT_ID_SEPARATOR)) {
+                continue;
             }
+            int storedLevel = skillData.getInt(key);
+            Identifier enchantId = storedLevel > 0 ? decodeEnchantmentIdSuffix(suffix) : null;
+            if (enchantId == null || !"minecraft".equals(enchantId.getNamespace())) {
+                continue;
+            }
+            String encodedKey = prefix + encodeEnchantmentId(enchantId);
+            if (!skillData.contains(encodedKey)) {
+                skillData.putInt(encodedKey, storedLevel);
+            }
+            if (legacyKeysToRemove == null) {
+                legacyKeysToRemove = new ArrayList<>();
+            }
+            legacyKeysToRemove.add(key);
         }
-
-        for (String legacy : legacyKeysToRemove) {
-            skillData.remove(legacy);
+        if (legacyKeysToRemove != null) {
+            for (String legacy : legacyKeysToRemove) {
+                skillData.remove(legacy);
+            }
         }
-
-        item.set(DataComponentTypes.ENCHANTMENTS, builder.build());
     }
 
     public static void setEnchantmentNetworkAllowlist(Set<Identifier> allowlist) {
         ENCHANTMENT_NETWORK_ALLOWLIST = allowlist;
         LOGGED_DISALLOWED_ENCHANTMENTS.clear();
+        ENCHANTED_TEMPLATES.clear();
     }
 
     private static boolean isEnchantmentAllowed(Identifier enchantId) {
@@ -4290,6 +4840,73 @@ public class ScalingSystem {
         ));
     }
     
+    /**
+     * Run the damage-triggered abilities this mob actually owns. The set is compiled from skill
+     * data on first use and again after upgrades change, so mobs without any pay one int check.
+     */
+    public static void dispatchDamageAbilities(MobEntity mob, MobWarData data, long currentTick) {
+        int abilities = data.getDamageAbilities();
+        if (abilities < 0) {
+            abilities = compileDamageAbilities(mob, data.getSkillData());
+            if (abilities < 0) {
+                return; // Config not resolvable yet; compile again on the next hit instead of caching "none"
+            }
+            data.setDamageAbilities(abilities);
+        }
+        if (abilities == 0) {
+            return;
+        }
+        if ((abilities & (DAMAGE_ABILITY_INVISIBILITY_ON_HIT | DAMAGE_ABILITY_ON_DAMAGE_REGEN)) != 0) {
+            handleDamageAbilities(mob, data, currentTick);
+        }
+        if ((abilities & DAMAGE_ABILITY_HORDE_SUMMON) != 0 && mob.getWorld() instanceof ServerWorld serverWorld) {
+            handleHordeSummon(mob, data, serverWorld, currentTick);
+        }
+    }
+
+    /**
+     * Bit set of the damage abilities the mob owns, or -1 when its config can't be resolved yet.
+     */
+    private static int compileDamageAbilities(MobEntity mob, NbtCompound skillData) {
+        JsonObject config = getConfigForMob(mob);
+        if (config == null || skillData == null) {
+            return -1;
+        }
+        if (!config.has("tree")) {
+            return 0;
+        }
+        JsonObject tree = config.getAsJsonObject("tree");
+        int abilities = 0;
+
+        String mobType = config.has("mob_type") ? config.get("mob_type").getAsString() : "hostile";
+        JsonObject effects = getPotionEffectsSection(config, mobType);
+        if (effects != null) {
+            int invisLevel = skillData.getInt("effect_invisibility_on_hit");
+            if (invisLevel > 0 && effects.has("invisibility_on_hit")
+                    && invisLevel <= effects.getAsJsonArray("invisibility_on_hit").size()) {
+                abilities |= DAMAGE_ABILITY_INVISIBILITY_ON_HIT;
+            }
+            int regenerationLevel = skillData.getInt("effect_regeneration");
+            if (regenerationLevel >= 3 && effects.has("regeneration")) {
+                JsonArray levels = effects.getAsJsonArray("regeneration");
+                if (regenerationLevel <= levels.size()
+                        && levels.get(regenerationLevel - 1).getAsJsonObject().has("on_damage_regen_level")) {
+                    abilities |= DAMAGE_ABILITY_ON_DAMAGE_REGEN;
+                }
+            }
+        }
+
+        if (tree.has("special_abilities")) {
+            JsonObject special = tree.getAsJsonObject("special_abilities");
+            int hordeLevel = skillData.getInt("ability_horde_summon");
+            if (hordeLevel > 0 && special.has("horde_summon")
+                    && hordeLevel <= special.getAsJsonArray("horde_summon").size()) {
+                abilities |= DAMAGE_ABILITY_HORDE_SUMMON;
+            }
+        }
+        return abilities;
+    }
+
     /**
      * Handle on-damage abilities like invisibility_on_hit
      * Call this from a damage event handler
@@ -4324,14 +4941,9 @@ public class ScalingSystem {
                 
                 // Check cooldown (cooldown timer starts after invisibility expires)
                 UUID mobUuid = mob.getUuid();
-                Map<String, Long> cooldowns = ABILITY_COOLDOWNS.computeIfAbsent(mobUuid, k -> new HashMap<>());
 
                 long configuredCooldownTicks = Math.max(0L, (long)Math.max(0, cooldown) * 20L);
-                long nextReadyTick = cooldowns.getOrDefault(ABILITY_KEY_INVIS_READY_TICK, 0L);
-                if (nextReadyTick == 0L && cooldowns.containsKey(ABILITY_KEY_INVIS_LEGACY)) {
-                    long legacyLastUse = cooldowns.get(ABILITY_KEY_INVIS_LEGACY);
-                    nextReadyTick = legacyLastUse + configuredCooldownTicks;
-                }
+                long nextReadyTick = ABILITY_COOLDOWNS.get(mobUuid, AbilityTimerStore.Timer.INVIS_READY, 0L);
 
                 if (currentTick >= nextReadyTick) {
                     // Roll chance
@@ -4350,10 +4962,10 @@ public class ScalingSystem {
                         ));
 
                         long effectEndsAtTick = currentTick + invisDurationTicks;
-                        cooldowns.put(ABILITY_KEY_INVIS_READY_TICK, effectEndsAtTick + configuredCooldownTicks);
-                        cooldowns.remove(ABILITY_KEY_INVIS_LEGACY);
+                        long readyTick = effectEndsAtTick + configuredCooldownTicks;
+                        ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.INVIS_READY, readyTick, currentTick, readyTick);
 
-                        startInvisibilityGlowFlicker(mob, cooldowns, currentTick, safeDurationSeconds);
+                        startInvisibilityGlowFlicker(mob, currentTick, safeDurationSeconds);
                     }
                 }
             }
@@ -4372,8 +4984,7 @@ public class ScalingSystem {
                     int cooldown = levelData.has("on_damage_cooldown") ? levelData.get("on_damage_cooldown").getAsInt() : 60;
                     
                     UUID mobUuid = mob.getUuid();
-                    Map<String, Long> cooldowns = ABILITY_COOLDOWNS.computeIfAbsent(mobUuid, k -> new HashMap<>());
-                    long lastUse = cooldowns.getOrDefault("on_damage_regen", 0L);
+                    long lastUse = ABILITY_COOLDOWNS.get(mobUuid, AbilityTimerStore.Timer.ON_DAMAGE_REGEN, 0L);
                     
                     if (currentTick - lastUse >= cooldown * 20L) {
                         mob.addStatusEffect(new StatusEffectInstance(
@@ -4384,10 +4995,12 @@ public class ScalingSystem {
                             false,
                             true
                         ));
-                        cooldowns.put("on_damage_regen", currentTick);
+                        ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.ON_DAMAGE_REGEN, currentTick,
+                            currentTick, currentTick + cooldown * 20L);
                         if (isUndeadMob(mob)) {
                             long burstWindowTicks = Math.max(20L, duration * 20L);
-                            cooldowns.put(ABILITY_KEY_UNDEAD_BURST, currentTick + burstWindowTicks);
+                            ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.UNDEAD_BURST_UNTIL, currentTick + burstWindowTicks,
+                                currentTick, currentTick + burstWindowTicks);
                         }
                     }
                 }
@@ -4434,6 +5047,13 @@ public class ScalingSystem {
         applyCaveSpiderPoisonFromAbilities(skillData, abilities, target);
     }
     
+    /**
+     * Whether this mob was summoned by horde_summon.
+     */
+    public static boolean isHordeReinforcement(MobEntity mob) {
+        return mob.getCommandTags().contains(HORDE_REINFORCEMENT_TAG);
+    }
+
     /**
      * Handle horde summon ability - chance to summon reinforcements when damaged
      * Call this when a mob takes damage
@@ -4466,36 +5086,17 @@ public class ScalingSystem {
                 
                 // Check cooldown (60 seconds)
                 UUID mobUuid = mob.getUuid();
-                Map<String, Long> cooldowns = ABILITY_COOLDOWNS.computeIfAbsent(mobUuid, k -> new HashMap<>());
                 long cooldownTicks = 1200L;
-                long lastUse = cooldowns.getOrDefault("horde_summon", currentTick - cooldownTicks);
+                long lastUse = ABILITY_COOLDOWNS.get(mobUuid, AbilityTimerStore.Timer.HORDE_SUMMON, currentTick - cooldownTicks);
 
                 if (currentTick - lastUse >= cooldownTicks) { // 60 seconds cooldown
                     if (mob.getRandom().nextDouble() < chance) {
-                        // Global limiter: if too many mobs are already actively fighting nearby, don't add more.
-                        // This is intentionally checked only right before spawning to avoid constant scanning.
-                        int nearbyHordeCapableOrUsed = 0;
-                        for (MobEntity entity : world.getEntitiesByClass(
-                            MobEntity.class,
-                            mob.getBoundingBox().expand(HORDE_NEARBY_RADIUS),
-                            entity -> entity != null && entity.isAlive()
-                        )) {
-                            try {
-                                MobWarData otherData = MobWarData.get(entity);
-                                boolean hasHorde = otherData != null && otherData.getSkillData().getInt("ability_horde_summon") > 0;
-                                Map<String, Long> otherCooldowns = ABILITY_COOLDOWNS.get(entity.getUuid());
-                                boolean hasUsedHorde = otherCooldowns != null && otherCooldowns.containsKey("horde_summon");
-
-                                if (hasHorde || hasUsedHorde) {
-                                    nearbyHordeCapableOrUsed++;
-                                    if (nearbyHordeCapableOrUsed >= HORDE_MAX_NEARBY_MOBS) {
-                                        break;
-                                    }
-                                }
-                            } catch (Exception ignored) {
-                            }
+                        // Global limiter: if enough reinforcements are already fighting in this area, don't add more,
+                        // and pace summons per region so a crowd of summoners can't chain-summon all at once.
+                        if (HordeRegionIndex.countNear(world, mob.getBlockPos()) >= HORDE_MAX_NEARBY_MOBS) {
+                            return;
                         }
-                        if (nearbyHordeCapableOrUsed >= HORDE_MAX_NEARBY_MOBS) {
+                        if (!HordeRegionIndex.tryAcquireSpawn(world, mob.getBlockPos(), currentTick)) {
                             return;
                         }
 
@@ -4525,7 +5126,8 @@ public class ScalingSystem {
                                 }
 
                                 world.spawnEntity(reinforcement);
-                                cooldowns.put("horde_summon", currentTick);
+                                ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.HORDE_SUMMON, currentTick,
+                                    currentTick, currentTick + cooldownTicks);
                             }
                         } catch (Exception ignored) {}
                     }
@@ -4597,31 +5199,34 @@ public class ScalingSystem {
     }
     
     /**
-     * Apply ranged potion effects to a hit target
-     * Call this when a projectile from a mob hits a target
+     * Resolve the on-hit ranged abilities (potion mastery + piercing) of a shot from this mob.
+     * Call this when the mob fires; the result is applied on hit without another lookup.
      */
-    public static void applyRangedPotionEffects(MobEntity mob, MobWarData data, 
-            net.minecraft.entity.LivingEntity target) {
-        if (!ModConfig.getInstance().isScalingActive()) return;
+    public static RangedHitPayload compileRangedHitPayload(MobEntity mob, MobWarData data) {
+        if (!ModConfig.getInstance().isScalingActive()) return RangedHitPayload.NONE;
         
         JsonObject config = getConfigForMob(mob);
-        if (config == null) return;
+        if (config == null) return RangedHitPayload.NONE;
         
         NbtCompound skillData = data.getSkillData();
-        if (!config.has("tree")) return;
+        if (!config.has("tree")) return RangedHitPayload.NONE;
         JsonObject tree = config.getAsJsonObject("tree");
         
-        if (!tree.has("special_abilities")) return;
+        if (!tree.has("special_abilities")) return RangedHitPayload.NONE;
         JsonObject abilities = tree.getAsJsonObject("special_abilities");
         
+        int piercing = getPiercingLevel(mob, data);
+        double chance = 0.0;
+        List<RangedHitPayload.Effect> effects = new ArrayList<>();
+        
         int potionMasteryLevel = skillData.getInt("ability_ranged_potion_mastery");
         if (potionMasteryLevel > 0 && abilities.has("ranged_potion_mastery")) {
             JsonArray levels = abilities.getAsJsonArray("ranged_potion_mastery");
             if (potionMasteryLevel <= levels.size()) {
                 JsonObject levelData = levels.get(potionMasteryLevel - 1).getAsJsonObject();
-                double chance = levelData.has("chance") ? levelData.get("chance").getAsDouble() : 0.2;
+                chance = levelData.has("chance") ? levelData.get("chance").getAsDouble() : 0.2;
                 
-                if (mob.getRandom().nextDouble() < chance && levelData.has("effects")) {
+                if (levelData.has("effects")) {
                     JsonArray effectsArray = levelData.getAsJsonArray("effects");
                     for (JsonElement effectEl : effectsArray) {
                         JsonObject effect = effectEl.getAsJsonObject();
@@ -4632,18 +5237,39 @@ public class ScalingSystem {
                         var statusEffect = getPotionEffectByName(type);
                         if (statusEffect != null) {
                             // Instant effects don't need duration
-                            if (type.equals("instant_damage") || type.equals("instant_health")) {
-                                target.addStatusEffect(new StatusEffectInstance(
-                                    statusEffect, 1, level - 1, false, true, true));
-                            } else {
-                                target.addStatusEffect(new StatusEffectInstance(
-                                    statusEffect, duration * 20, level - 1, false, true, true));
-                            }
+                            boolean instant = type.equals("instant_damage") || type.equals("instant_health");
+                            effects.add(new RangedHitPayload.Effect(statusEffect, instant ? 1 : duration * 20, level - 1));
                         }
                     }
                 }
             }
         }
+        
+        if (effects.isEmpty() && piercing <= 0) {
+            return RangedHitPayload.NONE;
+        }
+        return new RangedHitPayload(chance, List.copyOf(effects), Math.max(0, piercing));
+    }
+    
+    /**
+     * On-hit ranged abilities for a projectile that just hit something: the payload baked when it
+     * was fired, or a live lookup on its owner for projectiles that were never baked (reloaded
+     * from disk).
+     */
+    public static RangedHitPayload resolveRangedHitPayload(net.minecraft.entity.projectile.ProjectileEntity projectile) {
+        if (!ModConfig.getInstance().isScalingActive()) return RangedHitPayload.NONE;
+        
+        if (projectile instanceof ProjectileAbilityBridge bridge) {
+            RangedHitPayload baked = bridge.universalmobwar$getHitPayload();
+            if (baked != null) {
+                return baked;
+            }
+        }
+        
+        if (!(projectile.getOwner() instanceof MobEntity mob)) return RangedHitPayload.NONE;
+        MobWarData data = MobWarData.get(mob);
+        if (data == null) return RangedHitPayload.NONE;
+        return compileRangedHitPayload(mob, data);
     }
     
     /**
@@ -4703,8 +5329,7 @@ public class ScalingSystem {
                 
                 // Check cooldown
                 UUID mobUuid = mob.getUuid();
-                Map<String, Long> cooldowns = ABILITY_COOLDOWNS.computeIfAbsent(mobUuid, k -> new HashMap<>());
-                long lastUse = cooldowns.getOrDefault("shadow_step", 0L);
+                long lastUse = ABILITY_COOLDOWNS.get(mobUuid, AbilityTimerStore.Timer.SHADOW_STEP, 0L);
                 
                 if (currentTick - lastUse >= cooldownTicks) {
                     if (mob.getRandom().nextDouble() < chance) {
@@ -4716,17 +5341,18 @@ public class ScalingSystem {
                             new net.minecraft.util.math.Box(fromPos).expand(radius),
                             entity -> entity != mob && entity instanceof net.minecraft.entity.player.PlayerEntity
                         )) {
-                            if (isTargetImmune(entity, "shadow_step", currentTick)) {
+                            if (isTargetImmune(entity, AbilityTimerStore.Timer.SHADOW_STEP, currentTick)) {
                                 continue;
                             }
                             entity.addStatusEffect(new StatusEffectInstance(
                                 StatusEffects.BLINDNESS, blindDuration * 20, 0, false, true, true));
-                            markTargetAffected(entity, "shadow_step", currentTick);
+                            markTargetAffected(entity, AbilityTimerStore.Timer.SHADOW_STEP, currentTick);
                             appliedAny = true;
                         }
 
                         if (appliedAny) {
-                            cooldowns.put("shadow_step", currentTick);
+                            ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.SHADOW_STEP, currentTick,
+                                currentTick, currentTick + cooldownTicks);
                         }
                     }
                 }
@@ -4765,10 +5391,10 @@ public class ScalingSystem {
                 
                 // Check cooldown (30 seconds)
                 UUID mobUuid = mob.getUuid();
-                Map<String, Long> cooldowns = ABILITY_COOLDOWNS.computeIfAbsent(mobUuid, k -> new HashMap<>());
-                long lastUse = cooldowns.getOrDefault("void_grasp", 0L);
+                long cooldownTicks = 30L * 20L;
+                long lastUse = ABILITY_COOLDOWNS.get(mobUuid, AbilityTimerStore.Timer.VOID_GRASP, 0L);
                 
-                if (currentTick - lastUse >= 30L * 20L) {
+                if (currentTick - lastUse >= cooldownTicks) {
                     // Find entities in range
                     var nearbyEntities = world.getEntitiesByClass(net.minecraft.entity.LivingEntity.class,
                         mob.getBoundingBox().expand(range),
@@ -4780,7 +5406,7 @@ public class ScalingSystem {
                             // Apply effects to all entities in range
                             boolean appliedAny = false;
                             for (net.minecraft.entity.LivingEntity entity : nearbyEntities) {
-                                if (isTargetImmune(entity, "void_grasp", currentTick)) {
+                                if (isTargetImmune(entity, AbilityTimerStore.Timer.VOID_GRASP, currentTick)) {
                                     continue;
                                 }
                                 // Always apply weakness
@@ -4793,12 +5419,13 @@ public class ScalingSystem {
                                         StatusEffects.LEVITATION, levitationDuration * 20, 0, false, true, true));
                                 }
 
-                                markTargetAffected(entity, "void_grasp", currentTick);
+                                markTargetAffected(entity, AbilityTimerStore.Timer.VOID_GRASP, currentTick);
                                 appliedAny = true;
                             }
 
                             if (appliedAny) {
-                                cooldowns.put("void_grasp", currentTick);
+                                ABILITY_COOLDOWNS.put(mobUuid, AbilityTimerStore.Timer.VOID_GRASP, currentTick,
+                                    currentTick, currentTick + cooldownTicks);
                             }
                         }
                     }
@@ -4807,34 +5434,29 @@ public class ScalingSystem {
         }
     }
 
-    private static boolean isTargetImmune(net.minecraft.entity.LivingEntity target, String abilityKey, long currentTick) {
-        UUID targetUuid = target.getUuid();
-        Map<String, Long> immunities = ABILITY_TARGET_IMMUNITIES.get(targetUuid);
-        if (immunities == null) {
-            return false;
-        }
-
-        Long lastApplied = immunities.get(abilityKey);
-        if (lastApplied == null) {
-            return false;
-        }
+    private static boolean isTargetImmune(net.minecraft.entity.LivingEntity target, AbilityTimerStore.Timer ability, long currentTick) {
+        long lastApplied = ABILITY_TARGET_IMMUNITIES.get(target.getUuid(), ability, Long.MIN_VALUE);
+        return lastApplied != Long.MIN_VALUE && currentTick - lastApplied < ABILITY_TARGET_IMMUNITY_TICKS;
+    }
 
-        if (currentTick - lastApplied < ABILITY_TARGET_IMMUNITY_TICKS) {
-            return true;
-        }
+    private static void markTargetAffected(net.minecraft.entity.LivingEntity target, AbilityTimerStore.Timer ability, long currentTick) {
+        ABILITY_TARGET_IMMUNITIES.put(target.getUuid(), ability, currentTick,
+            currentTick, currentTick + ABILITY_TARGET_IMMUNITY_TICKS);
+    }
 
-        // Expired; clean up.
-        immunities.remove(abilityKey);
-        if (immunities.isEmpty()) {
-            ABILITY_TARGET_IMMUNITIES.remove(targetUuid);
-        }
-        return false;
+    /**
+     * Reclaim ability cooldowns and target immunities that have run out. Called once per server tick.
+     */
+    public static void expireAbilityTimers(net.minecraft.server.MinecraftServer server) {
+        // Every dimension shares the overworld's game time, which is what ability ticks are read from.
+        long currentTick = server.getOverworld().getTime();
+        ABILITY_COOLDOWNS.advance(currentTick);
+        ABILITY_TARGET_IMMUNITIES.advance(currentTick);
     }
 
-    private static void markTargetAffected(net.minecraft.entity.LivingEntity target, String abilityKey, long currentTick) {
-        UUID targetUuid = target.getUuid();
-        Map<String, Long> immunities = ABILITY_TARGET_IMMUNITIES.computeIfAbsent(targetUuid, k -> new HashMap<>());
-        immunities.put(abilityKey, currentTick);
+    public static void clearAbilityTimers() {
+        ABILITY_COOLDOWNS.clear();
+        ABILITY_TARGET_IMMUNITIES.clear();
     }
     
     // ==========================================================================
@@ -4937,7 +5559,7 @@ public class ScalingSystem {
     
     /**
      * Spawn potion cloud effects at Creeper explosion location
-     * Call this when Creeper explodes
+     * Call this when Creeper explodes; effects land at the end of the tick (see CreeperCloudBatch)
      */
     public static void spawnCreeperPotionCloud(MobEntity mob, MobWarData data, ServerWorld world, 
             net.minecraft.util.math.BlockPos pos) {
@@ -4961,25 +5583,21 @@ public class ScalingSystem {
                 
                 if (levelData.has("effects")) {
                     JsonArray effectsArray = levelData.getAsJsonArray("effects");
+                    List<CreeperCloudBatch.CloudEffect> effects = new ArrayList<>(effectsArray.size());
+                    for (JsonElement effectEl : effectsArray) {
+                        JsonObject effect = effectEl.getAsJsonObject();
+                        String type = effect.get("type").getAsString();
+                        int level = effect.has("level") ? effect.get("level").getAsInt() : 1;
+                        int duration = effect.has("duration") ? effect.get("duration").getAsInt() : 10;
+                        
+                        var statusEffect = getPotionEffectByName(type);
+                        if (statusEffect != null) {
+                            effects.add(new CreeperCloudBatch.CloudEffect(statusEffect, duration * 20, level - 1));
+                        }
+                    }
                     
-                    // Apply effects to all entities in 5 block radius
-                    world.getEntitiesByClass(net.minecraft.entity.LivingEntity.class,
-                        new net.minecraft.util.math.Box(pos).expand(5.0),
-                        entity -> entity != mob && entity instanceof net.minecraft.entity.player.PlayerEntity)
-                        .forEach(entity -> {
-                            for (JsonElement effectEl : effectsArray) {
-                                JsonObject effect = effectEl.getAsJsonObject();
-                                String type = effect.get("type").getAsString();
-                                int level = effect.has("level") ? effect.get("level").getAsInt() : 1;
-                                int duration = effect.has("duration") ? effect.get("duration").getAsInt() : 10;
-                                
-                                var statusEffect = getPotionEffectByName(type);
-                                if (statusEffect != null) {
-                                    entity.addStatusEffect(new StatusEffectInstance(
-                                        statusEffect, duration * 20, level - 1, false, true, true));
-                                }
-                            }
-                        });
+                    // Applied to players within 5 blocks at the end of the tick, merged with any other bursts
+                    CreeperCloudBatch.stage(world, pos, effects);
                 }
             }
         }
@@ -5202,7 +5820,7 @@ public class ScalingSystem {
                 skillData.putBoolean(equippedKey, false);
             }
             setPlayerOverride(skillData, overrideKey, false);
-            if (!mob.getEquippedStack(slot).isEmpty()) {
+            if (!EquipmentSyncCoalescer.getEquipped(mob, slot).isEmpty()) {
                 mob.equipStack(slot, ItemStack.EMPTY);
             }
             return;
@@ -5536,11 +6154,42 @@ public class ScalingSystem {
         UUID mobUuid,
         UpgradeComputationResult computation,
         long requestedTick,
+        long submittedAtNanos,
         long startedAtNanos,
         long completedAtNanos
     ) {}
 
+    /**
+     * Jobs with equal keys are batched into one scheduler wave. The config tree and enchant registry
+     * compare by identity so a reload mid-tick never mixes old and new trees in one wave.
+     */
+    private record UpgradeWaveKey(
+        JsonObject config,
+        String mobType,
+        ModConfigSnapshot configSnapshot,
+        Registry<Enchantment> enchantRegistry
+    ) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof UpgradeWaveKey key
+                && config == key.config
+                && enchantRegistry == key.enchantRegistry
+                && Objects.equals(mobType, key.mobType)
+                && Objects.equals(configSnapshot, key.configSnapshot);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(config);
+            hash = 31 * hash + Objects.hashCode(mobType);
+            return 31 * hash + Objects.hashCode(configSnapshot);
+        }
+    }
+
     private static final class MobUpgradeJob implements Callable<UpgradeJobResult> {
+        // Reseeded per job, so results match a fresh Random(seed) without allocating one per mob.
+        private static final ThreadLocal<Random> WORKER_RANDOM = ThreadLocal.withInitial(Random::new);
+
         private final UUID mobUuid;
         private final JsonObject config;
         private final String mobType;
@@ -5553,6 +6202,7 @@ public class ScalingSystem {
         private final int killCount;
         private final long requestedTick;
         private final long seed;
+        private final long submittedAtNanos;
 
         private MobUpgradeJob(
                 UUID mobUuid,
@@ -5579,6 +6229,7 @@ public class ScalingSystem {
             this.killCount = killCount;
             this.requestedTick = requestedTick;
             this.seed = seed;
+            this.submittedAtNanos = System.nanoTime();
         }
 
         @Override
@@ -5594,14 +6245,20 @@ public class ScalingSystem {
                 totalPoints,
                 spentPoints,
                 configSnapshot,
-                seed,
+                reseededRandom(),
                 killCount
             );
             if (computation == null) {
                 return null;
             }
             long completed = System.nanoTime();
-            return new UpgradeJobResult(mobUuid, computation, requestedTick, started, completed);
+            return new UpgradeJobResult(mobUuid, computation, requestedTick, submittedAtNanos, started, completed);
+        }
+
+        private Random reseededRandom() {
+            Random random = WORKER_RANDOM.get();
+            random.setSeed(seed);
+            return random;
         }
     }
 
@@ -5749,13 +6406,15 @@ public class ScalingSystem {
         private final ItemStack offHand;
         private final EnumMap<EquipmentSlot, ItemStack> armor;
         private final Map<String, Integer> durabilityLevels;
+        private final EnumMap<EquipmentSlot, Boolean> equippedFlags;
 
         private EquipmentSnapshot(ItemStack mainHand, ItemStack offHand, EnumMap<EquipmentSlot, ItemStack> armor,
-                Map<String, Integer> durabilityLevels) {
+                Map<String, Integer> durabilityLevels, EnumMap<EquipmentSlot, Boolean> equippedFlags) {
             this.mainHand = mainHand;
             this.offHand = offHand;
             this.armor = armor;
             this.durabilityLevels = durabilityLevels;
+            this.equippedFlags = equippedFlags;
         }
 
         static EquipmentSnapshot capture(MobEntity mob, NbtCompound skillData) {
@@ -5766,14 +6425,32 @@ public class ScalingSystem {
                 armorMap.put(slot, mob != null ? mob.getEquippedStack(slot).copy() : ItemStack.EMPTY);
             }
             Map<String, Integer> durability = new HashMap<>();
+            EnumMap<EquipmentSlot, Boolean> equipped = new EnumMap<>(EquipmentSlot.class);
             if (skillData != null) {
                 for (String key : skillData.getKeys()) {
                     if (key.endsWith("_durability_mastery")) {
                         durability.put(key, skillData.getInt(key));
                     }
                 }
+                for (EquipmentSlot slot : ALL_EQUIPMENT_SLOTS) {
+                    equipped.put(slot, skillData.getBoolean(getEquippedFlagKey(slot)));
+                }
+            }
+            return new EquipmentSnapshot(main, off, armorMap, durability, equipped);
+        }
+
+        /**
+         * Restores the pre-upgrade equipped flags for slots that the upgrade pass did not touch.
+         */
+        void restoreEquippedFlags(NbtCompound skillData, Set<EquipmentSlot> appliedSlots) {
+            if (skillData == null || equippedFlags == null) {
+                return;
+            }
+            for (Map.Entry<EquipmentSlot, Boolean> entry : equippedFlags.entrySet()) {
+                if (appliedSlots == null || !appliedSlots.contains(entry.getKey())) {
+                    skillData.putBoolean(getEquippedFlagKey(entry.getKey()), entry.getValue());
+                }
             }
-            return new EquipmentSnapshot(main, off, armorMap, durability);
         }
 
         ItemStack getMainHand() {
@@ -5801,13 +6478,81 @@ public class ScalingSystem {
     }
 
     private static record UpgradeComputationResult(
-        NbtCompound skillData,
+        SkillDataDelta delta,
         double spentPoints,
         boolean purchasedUpgrade,
         int remainingBudget,
+        int iterations,
         List<String> logEntries
     ) {}
 
+    /**
+     * Compact set of skillData changes produced by an upgrade pass. Only the changed keys travel
+     * back to the main thread, together with the equipment slots those keys feed into.
+     */
+    private static record SkillDataDelta(
+        String[] changedKeys,
+        NbtElement[] changedValues,
+        String[] removedKeys,
+        Set<EquipmentSlot> affectedSlots,
+        boolean effectsChanged
+    ) {
+        private static final String[] NO_KEYS = new String[0];
+        private static final NbtElement[] NO_VALUES = new NbtElement[0];
+
+        static SkillDataDelta diff(NbtCompound baseline, NbtCompound updated) {
+            List<String> changed = new ArrayList<>();
+            List<NbtElement> values = new ArrayList<>();
+            List<String> removed = new ArrayList<>();
+            EnumSet<EquipmentSlot> slots = EnumSet.noneOf(EquipmentSlot.class);
+            boolean effects = false;
+
+            for (String key : updated.getKeys()) {
+                NbtElement value = updated.get(key);
+                if (value == null || value.equals(baseline.get(key))) {
+                    continue;
+                }
+                changed.add(key);
+                values.add(value);
+                effects |= markAffected(key, slots);
+            }
+            for (String key : baseline.getKeys()) {
+                if (!updated.contains(key)) {
+                    removed.add(key);
+                    effects |= markAffected(key, slots);
+                }
+            }
+
+            return new SkillDataDelta(
+                changed.isEmpty() ? NO_KEYS : changed.toArray(NO_KEYS),
+                values.isEmpty() ? NO_VALUES : values.toArray(NO_VALUES),
+                removed.isEmpty() ? NO_KEYS : removed.toArray(NO_KEYS),
+                slots.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(slots),
+                effects
+            );
+        }
+
+        /**
+         * Records the equipment slot a skill key belongs to; returns true for potion effect keys.
+         */
+        private static boolean markAffected(String key, EnumSet<EquipmentSlot> slots) {
+            EquipmentSlot slot = getEquipmentSlotForSkillKey(key);
+            if (slot != null) {
+                slots.add(slot);
+            }
+            return key.startsWith("effect_");
+        }
+
+        void applyTo(NbtCompound target) {
+            for (String key : removedKeys) {
+                target.remove(key);
+            }
+            for (int i = 0; i < changedKeys.length; i++) {
+                target.put(changedKeys[i], changedValues[i].copy());
+            }
+        }
+    }
+
     /**
      * Helper class for upgrade options
      */
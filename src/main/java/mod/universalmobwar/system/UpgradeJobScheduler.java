@@ -2,100 +2,347 @@ package mod.universalmobwar.system;
 
 import mod.universalmobwar.UniversalMobWarMod;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Centralized async executor for upgrade jobs.
+ *
+ * Jobs for mobs sharing a config are grouped into waves: one queue entry and one worker pass per
+ * wave instead of one task per mob.
+ *
+ * Queued jobs run in priority order (lower value first, FIFO within a priority), so mobs that
+ * players are fighting are not stuck behind mobs in unwatched chunks. Admission is bounded by the
+ * configured job limit; callers get an explicit {@link Admission} with a retry delay derived from
+ * the current backlog instead of guessing one.
+ *
+ * Finished results are not applied by the mob's own tick. They go onto a completion queue that
+ * {@link ScalingSystem#drainCompletedUpgrades} drains in the same priority order under a per-tick
+ * time budget, so a burst of jobs finishing together is spread over several ticks.
  */
 public final class UpgradeJobScheduler {
 
+    /** Mob is targeting or was just hit by a player. */
+    public static final int PRIORITY_ENGAGED = 0;
+    /** No player anywhere near the mob; may only use part of the capacity. */
+    public static final int PRIORITY_UNWATCHED = 9;
+
+    private static final int TICK_NANOS = 50_000_000;
+    private static final long MIN_RETRY_TICKS = 5L;
+    private static final long MAX_RETRY_TICKS = 400L;
+    // Before any job has finished, assume a mid-sized upgrade pass.
+    private static final long DEFAULT_JOB_NANOS = 2_000_000L;
+    // Small enough that a burst of one mob type still spreads across all workers.
+    private static final int MAX_WAVE_SIZE = 16;
+
     private static final UpgradeJobScheduler INSTANCE = new UpgradeJobScheduler();
 
-    private final ScheduledThreadPoolExecutor executor;
-    private final ConcurrentMap<UUID, Future<?>> activeJobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final int workerCount;
+    private final ConcurrentMap<UUID, UpgradeWave> activeJobs = new ConcurrentHashMap<>();
+    // Waves still collecting members this tick; server thread only.
+    private final Map<Object, UpgradeWave> stagedWaves = new HashMap<>();
+    private final AtomicInteger queuedMembers = new AtomicInteger();
     private final ConcurrentMap<UUID, ScalingSystem.UpgradeJobResult> completedResults = new ConcurrentHashMap<>();
+    private final PriorityBlockingQueue<Completion> completionQueue = new PriorityBlockingQueue<>();
+    // Results still waiting for their turn on the completion queue; pollResult skips these.
+    private final Set<UUID> awaitingApply = ConcurrentHashMap.newKeySet();
+    private final AtomicLong submitSequence = new AtomicLong();
+    private final AtomicLong averageJobNanos = new AtomicLong();
+
+    /**
+     * Outcome of {@link #tryAdmit}. When rejected, {@code retryAfterTicks} is how long the caller
+     * should wait before asking again.
+     */
+    public record Admission(boolean accepted, long retryAfterTicks) {
+        private static final Admission ACCEPTED = new Admission(true, 0L);
+
+        public static Admission rejected(long retryAfterTicks) {
+            return new Admission(false, Math.max(1L, retryAfterTicks));
+        }
+    }
+
+    private record Completion(UUID mobId, int priority, long sequence) implements Comparable<Completion> {
+        @Override
+        public int compareTo(Completion other) {
+            int byPriority = Integer.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * One queued unit of work: every staged job for the same wave key, run back to back on one
+     * worker so the shared config tree and enchant lookups stay hot. Members are only added on the
+     * server thread before the wave is dispatched.
+     */
+    private final class UpgradeWave implements Runnable, Comparable<UpgradeWave> {
+        private final long sequence;
+        private final List<UUID> mobIds = new ArrayList<>(MAX_WAVE_SIZE);
+        private final List<Callable<ScalingSystem.UpgradeJobResult>> jobs = new ArrayList<>(MAX_WAVE_SIZE);
+        private final List<Integer> priorities = new ArrayList<>(MAX_WAVE_SIZE);
+        private final Map<UUID, Integer> memberIndex = new HashMap<>();
+        private int priority = Integer.MAX_VALUE;
+        private boolean dispatched;
+        private volatile boolean done;
+
+        UpgradeWave(long sequence) {
+            this.sequence = sequence;
+        }
+
+        /**
+         * Add a member, or replace the staged job of a mob resubmitted within the same tick so it
+         * is computed once.
+         */
+        void add(UUID mobId, int memberPriority, Callable<ScalingSystem.UpgradeJobResult> job) {
+            Integer index = memberIndex.get(mobId);
+            if (index != null) {
+                jobs.set(index, job);
+                priorities.set(index, memberPriority);
+                priority = Integer.MAX_VALUE;
+                for (int staged : priorities) {
+                    priority = Math.min(priority, staged);
+                }
+                return;
+            }
+            memberIndex.put(mobId, mobIds.size());
+            mobIds.add(mobId);
+            jobs.add(job);
+            priorities.add(memberPriority);
+            priority = Math.min(priority, memberPriority);
+        }
+
+        int size() {
+            return mobIds.size();
+        }
+
+        boolean hasLiveMembers() {
+            for (UUID mobId : mobIds) {
+                if (activeJobs.get(mobId) == this) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void run() {
+            queuedMembers.addAndGet(-mobIds.size());
+            ScalingSystem.UpgradeJobResult[] results = new ScalingSystem.UpgradeJobResult[mobIds.size()];
+            long started = System.nanoTime();
+            int computed = 0;
+            try {
+                for (int i = 0; i < results.length; i++) {
+                    UUID mobId = mobIds.get(i);
+                    // Members cancelled or resubmitted since staging are skipped outright.
+                    if (activeJobs.get(mobId) != this) {
+                        continue;
+                    }
+                    try {
+                        results[i] = jobs.get(i).call();
+                        computed++;
+                    } catch (Exception ex) {
+                        UniversalMobWarMod.LOGGER.error("[UpgradeJobScheduler] Upgrade job failed for {}: {}", mobId, ex.getMessage());
+                    }
+                }
+                for (int i = 0; i < results.length; i++) {
+                    UUID mobId = mobIds.get(i);
+                    if (results[i] != null && activeJobs.get(mobId) == this) {
+                        awaitingApply.add(mobId);
+                        completedResults.put(mobId, results[i]);
+                        completionQueue.offer(new Completion(mobId, priorities.get(i), sequence));
+                    }
+                }
+            } finally {
+                if (computed > 0) {
+                    recordJobDuration((System.nanoTime() - started) / computed);
+                }
+                done = true;
+                for (UUID mobId : mobIds) {
+                    activeJobs.remove(mobId, this);
+                }
+            }
+        }
+
+        @Override
+        public int compareTo(UpgradeWave other) {
+            int byPriority = Integer.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
 
     private UpgradeJobScheduler() {
-        int cores = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.workerCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
         ThreadFactory factory = runnable -> {
             Thread thread = new Thread(runnable, "umw-upgrade-worker");
             thread.setDaemon(true);
             thread.setPriority(Thread.NORM_PRIORITY - 1);
             return thread;
         };
-        this.executor = (ScheduledThreadPoolExecutor) Executors.newScheduledThreadPool(cores, factory);
-        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor = new ThreadPoolExecutor(
+            workerCount,
+            workerCount,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>(),
+            factory
+        );
     }
 
     public static UpgradeJobScheduler getInstance() {
         return INSTANCE;
     }
 
-    public void submit(UUID mobId, Callable<ScalingSystem.UpgradeJobResult> callable) {
+    /**
+     * Decide whether a job at {@code priority} may be queued now. {@code capacity} bounds jobs in
+     * flight (staged + queued + running); unwatched mobs may only fill three quarters of it so
+     * engaged mobs always find room. A capacity of 0 or less disables the bound.
+     */
+    public Admission tryAdmit(UUID mobId, int priority, int capacity) {
+        if (capacity <= 0) {
+            return Admission.ACCEPTED;
+        }
+        int inFlight = activeJobs.size();
+        if (mobId != null && activeJobs.containsKey(mobId)) {
+            // Submitting replaces this mob's previous job.
+            inFlight--;
+        }
+        int limit = priority >= PRIORITY_UNWATCHED ? Math.max(1, capacity * 3 / 4) : capacity;
+        if (inFlight < limit) {
+            return Admission.ACCEPTED;
+        }
+        UpgradeTelemetry.recordRejected();
+        return Admission.rejected(estimateRetryTicks(priority));
+    }
+
+    /**
+     * Stage a job for {@code mobId}. Jobs with an equal {@code waveKey} submitted during the same
+     * server tick share one wave; a wave is dispatched once it is full or at {@link #flushWaves}.
+     * A null key dispatches the job on its own right away. Server thread only.
+     */
+    public void submit(UUID mobId, int priority, Object waveKey, Callable<ScalingSystem.UpgradeJobResult> callable) {
         if (mobId == null || callable == null) {
             return;
         }
 
-        // Use a FutureTask so we can register it in the map before it can run.
-        // This avoids races where a job finishes before tracking is established,
-        // and ensures old jobs can't remove newer jobs for the same mob.
-        final FutureTask<Void>[] holder = new FutureTask[1];
-        FutureTask<Void> task = new FutureTask<>(() -> {
-            try {
-                ScalingSystem.UpgradeJobResult result = callable.call();
-                FutureTask<Void> self = holder[0];
-                if (result != null && self != null && activeJobs.get(mobId) == self) {
-                    completedResults.put(mobId, result);
-                }
-            } catch (Exception ex) {
-                UniversalMobWarMod.LOGGER.error("[UpgradeJobScheduler] Upgrade job failed for {}: {}", mobId, ex.getMessage());
-            } finally {
-                FutureTask<Void> self = holder[0];
-                if (self != null) {
-                    activeJobs.remove(mobId, self);
-                } else {
-                    activeJobs.remove(mobId);
-                }
+        UpgradeWave previous = activeJobs.get(mobId);
+        if (previous != null) {
+            detach(mobId, previous);
+        }
+
+        UpgradeWave wave = waveKey != null ? stagedWaves.get(waveKey) : null;
+        if (wave == null) {
+            wave = new UpgradeWave(submitSequence.incrementAndGet());
+            if (waveKey != null) {
+                stagedWaves.put(waveKey, wave);
             }
-            return null;
-        });
-        holder[0] = task;
+        }
+        // Register before the wave can run so a fast job can't finish ahead of its tracking entry.
+        wave.add(mobId, priority, callable);
+        activeJobs.put(mobId, wave);
+        UpgradeTelemetry.recordSubmitted();
 
-        Future<?> previous = activeJobs.put(mobId, task);
-        if (previous != null) {
-            previous.cancel(true);
+        if (waveKey == null || wave.size() >= MAX_WAVE_SIZE) {
+            if (waveKey != null) {
+                stagedWaves.remove(waveKey);
+            }
+            dispatch(wave);
         }
+    }
+
+    /**
+     * Dispatch every partially filled wave. Called once per server tick.
+     */
+    public void flushWaves() {
+        if (stagedWaves.isEmpty()) {
+            return;
+        }
+        List<UpgradeWave> waves = new ArrayList<>(stagedWaves.values());
+        stagedWaves.clear();
+        for (UpgradeWave wave : waves) {
+            dispatch(wave);
+        }
+    }
 
+    private void dispatch(UpgradeWave wave) {
+        wave.dispatched = true;
+        if (!wave.hasLiveMembers()) {
+            return;
+        }
+        queuedMembers.addAndGet(wave.size());
         try {
-            executor.execute(task);
+            executor.execute(wave);
         } catch (RejectedExecutionException ex) {
-            activeJobs.remove(mobId, task);
-            UniversalMobWarMod.LOGGER.error("[UpgradeJobScheduler] Upgrade job rejected for {}: {}", mobId, ex.getMessage());
+            queuedMembers.addAndGet(-wave.size());
+            for (UUID mobId : wave.mobIds) {
+                activeJobs.remove(mobId, wave);
+            }
+            UniversalMobWarMod.LOGGER.error("[UpgradeJobScheduler] Upgrade wave of {} rejected: {}", wave.size(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Drop one member from its wave. The wave itself only leaves the queue once no member is left,
+     * since the others still want their results.
+     */
+    private void detach(UUID mobId, UpgradeWave wave) {
+        if (activeJobs.remove(mobId, wave) && !wave.done) {
+            UpgradeTelemetry.recordCancelled();
+        }
+        if (wave.dispatched && !wave.hasLiveMembers() && executor.remove(wave)) {
+            queuedMembers.addAndGet(-wave.size());
         }
     }
 
+    /**
+     * Take a finished result for this mob, unless it is still queued for the budgeted apply pass.
+     * Results whose mob was not loaded when its turn came stay here for the mob's own tick.
+     */
     public ScalingSystem.UpgradeJobResult pollResult(UUID mobId) {
-        if (mobId == null) {
+        if (mobId == null || awaitingApply.contains(mobId)) {
             return null;
         }
         return completedResults.remove(mobId);
     }
 
+    /**
+     * Next mob whose result should be applied, highest priority first, or null when none are
+     * waiting. The result itself is then available through {@link #pollResult}.
+     */
+    public UUID pollNextCompletion() {
+        Completion completion;
+        while ((completion = completionQueue.poll()) != null) {
+            // Entries for cancelled or already-applied results are left behind; skip them.
+            if (awaitingApply.remove(completion.mobId())) {
+                return completion.mobId();
+            }
+        }
+        return null;
+    }
+
+    public int getPendingApplyCount() {
+        return awaitingApply.size();
+    }
+
     public boolean isJobActive(UUID mobId) {
         if (mobId == null) {
             return false;
         }
-        Future<?> future = activeJobs.get(mobId);
-        return future != null && !future.isDone();
+        UpgradeWave wave = activeJobs.get(mobId);
+        return wave != null && !wave.done;
     }
 
     public boolean isIdle() {
@@ -106,14 +353,45 @@ public final class UpgradeJobScheduler {
         return activeJobs.size();
     }
 
+    public int getQueuedJobCount() {
+        return queuedMembers.get();
+    }
+
+    /**
+     * Ticks the workers need to drain what is already queued, from the running average job time.
+     */
+    public long estimateBacklogTicks() {
+        int queued = queuedMembers.get();
+        if (queued <= 0) {
+            return 0L;
+        }
+        long perJob = averageJobNanos.get();
+        if (perJob <= 0L) {
+            perJob = DEFAULT_JOB_NANOS;
+        }
+        long nanos = (queued + workerCount - 1L) / workerCount * perJob;
+        return (nanos + TICK_NANOS - 1) / TICK_NANOS;
+    }
+
+    private long estimateRetryTicks(int priority) {
+        // Lower priorities back off further so engaged mobs get the freed slots first.
+        long retry = estimateBacklogTicks() + MIN_RETRY_TICKS * (1L + Math.max(0, priority));
+        return Math.max(MIN_RETRY_TICKS, Math.min(MAX_RETRY_TICKS, retry));
+    }
+
+    private void recordJobDuration(long nanos) {
+        averageJobNanos.updateAndGet(previous -> previous <= 0L ? nanos : previous + (nanos - previous) / 8L);
+    }
+
     public void cancel(UUID mobId) {
         if (mobId == null) {
             return;
         }
-        Future<?> future = activeJobs.remove(mobId);
-        if (future != null) {
-            future.cancel(true);
+        UpgradeWave wave = activeJobs.get(mobId);
+        if (wave != null) {
+            detach(mobId, wave);
         }
+        awaitingApply.remove(mobId);
         completedResults.remove(mobId);
     }
 }
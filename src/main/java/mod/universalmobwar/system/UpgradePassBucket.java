@@ -0,0 +1,38 @@
+package mod.universalmobwar.system;
+
+/**
+ * Global token bucket for starting upgrade passes, kept in game ticks so the resulting schedule is
+ * deterministic for a given set of requests.
+ *
+ * {@link #reserve} never rejects: it books the first tick at or after the requested one where a
+ * token is available. A burst of mobs becoming eligible together turns into an evenly spaced
+ * queue at the configured rate instead of a spike. Not thread-safe; callers hold the scheduler lock.
+ */
+final class UpgradePassBucket {
+
+    // Virtual time (in ticks) at which the bucket would be full again; GCRA formulation.
+    private double theoreticalArrival = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Book one token.
+     *
+     * @param requestedTick earliest tick the caller wants to start
+     * @param tokensPerTick refill rate
+     * @param capacity      burst size allowed when the bucket is full
+     * @return the tick at which the booked token is available (never before {@code requestedTick})
+     */
+    long reserve(long requestedTick, double tokensPerTick, int capacity) {
+        double emissionInterval = 1.0 / Math.max(1.0e-6, tokensPerTick);
+        double tolerance = (Math.max(1, capacity) - 1) * emissionInterval;
+        double start = Math.max(requestedTick, theoreticalArrival - tolerance);
+        theoreticalArrival = Math.max(theoreticalArrival, start) + emissionInterval;
+        return (long) Math.ceil(start);
+    }
+
+    /**
+     * Forget bookings beyond {@code tick}; used when the queue has drifted unreasonably far ahead.
+     */
+    void reset(long tick) {
+        theoreticalArrival = Math.min(theoreticalArrival, tick);
+    }
+}
@@ -0,0 +1,187 @@
+package mod.universalmobwar.system;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the async upgrade pipeline: how long jobs wait in the queue, how long they compute,
+ * how long finished results wait for the main thread, what applying them costs, how many
+ * iterations a pass takes and how many jobs are cancelled before finishing. Also counts how often
+ * equipping reused a cached enchanted item template instead of building one.
+ *
+ * Everything is kept in fixed-bucket histograms so recording is a couple of atomic increments and
+ * memory never grows. Percentiles are reported as the upper bound of the bucket they fall in.
+ */
+public final class UpgradeTelemetry {
+
+    private static final long[] DURATION_BOUNDS_MICROS = {
+        50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 1_000_000, 5_000_000
+    };
+    private static final long[] ITERATION_BOUNDS = {
+        1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1_024, 4_096, 20_000
+    };
+
+    private static final Histogram QUEUE_WAIT = new Histogram("Queue wait", DURATION_BOUNDS_MICROS, true);
+    private static final Histogram COMPUTE = new Histogram("Compute", DURATION_BOUNDS_MICROS, true);
+    private static final Histogram APPLY_LATENCY = new Histogram("Apply latency", DURATION_BOUNDS_MICROS, true);
+    private static final Histogram APPLY_COST = new Histogram("Apply cost", DURATION_BOUNDS_MICROS, true);
+    private static final Histogram ITERATIONS = new Histogram("Iterations", ITERATION_BOUNDS, false);
+
+    private static final LongAdder SUBMITTED = new LongAdder();
+    private static final LongAdder CANCELLED = new LongAdder();
+    private static final LongAdder REJECTED = new LongAdder();
+    private static final LongAdder TEMPLATES_BUILT = new LongAdder();
+    private static final LongAdder TEMPLATES_REUSED = new LongAdder();
+    private static volatile long sinceMillis = System.currentTimeMillis();
+
+    private UpgradeTelemetry() {
+    }
+
+    static void recordSubmitted() {
+        SUBMITTED.increment();
+    }
+
+    static void recordCancelled() {
+        CANCELLED.increment();
+    }
+
+    static void recordRejected() {
+        REJECTED.increment();
+    }
+
+    static void recordTemplateBuilt() {
+        TEMPLATES_BUILT.increment();
+    }
+
+    static void recordTemplateReused() {
+        TEMPLATES_REUSED.increment();
+    }
+
+    /**
+     * Record the timings of one applied job. {@code appliedAtNanos} is when the main thread picked
+     * the result up, {@code applyNanos} how long applying it took.
+     */
+    static void recordApplied(ScalingSystem.UpgradeJobResult result, int iterations, long appliedAtNanos, long applyNanos) {
+        if (result.submittedAtNanos() > 0L) {
+            QUEUE_WAIT.recordNanos(result.startedAtNanos() - result.submittedAtNanos());
+        }
+        COMPUTE.recordNanos(result.completedAtNanos() - result.startedAtNanos());
+        APPLY_LATENCY.recordNanos(appliedAtNanos - result.completedAtNanos());
+        APPLY_COST.recordNanos(applyNanos);
+        ITERATIONS.record(iterations);
+    }
+
+    public static void reset() {
+        QUEUE_WAIT.reset();
+        COMPUTE.reset();
+        APPLY_LATENCY.reset();
+        APPLY_COST.reset();
+        ITERATIONS.reset();
+        SUBMITTED.reset();
+        CANCELLED.reset();
+        REJECTED.reset();
+        TEMPLATES_BUILT.reset();
+        TEMPLATES_REUSED.reset();
+        sinceMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * One line per metric, ready for chat or the log.
+     */
+    public static List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        long submitted = SUBMITTED.sum();
+        long cancelled = CANCELLED.sum();
+        double cancelRate = submitted > 0 ? 100.0 * cancelled / submitted : 0.0;
+        long seconds = Math.max(0L, (System.currentTimeMillis() - sinceMillis) / 1000L);
+        lines.add(String.format(Locale.ROOT, "Jobs: %d submitted, %d cancelled (%.1f%%), %d rejected at admission, over %ds",
+            submitted, cancelled, cancelRate, REJECTED.sum(), seconds));
+        lines.add(QUEUE_WAIT.describe());
+        lines.add(COMPUTE.describe());
+        lines.add(APPLY_LATENCY.describe());
+        lines.add(APPLY_COST.describe());
+        lines.add(ITERATIONS.describe());
+        long built = TEMPLATES_BUILT.sum();
+        long reused = TEMPLATES_REUSED.sum();
+        double hitRate = built + reused > 0 ? 100.0 * reused / (built + reused) : 0.0;
+        lines.add(String.format(Locale.ROOT, "Item templates: %d built, %d reused (%.1f%% hit rate)", built, reused, hitRate));
+        return lines;
+    }
+
+    private static final class Histogram {
+        private final String name;
+        private final long[] bounds;
+        private final boolean micros;
+        // One extra slot for values above the last bound.
+        private final AtomicLongArray counts;
+        private final LongAdder total = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+
+        Histogram(String name, long[] bounds, boolean micros) {
+            this.name = name;
+            this.bounds = bounds;
+            this.micros = micros;
+            this.counts = new AtomicLongArray(bounds.length + 1);
+        }
+
+        void recordNanos(long nanos) {
+            record(Math.max(0L, nanos) / 1_000L);
+        }
+
+        void record(long value) {
+            int bucket = 0;
+            while (bucket < bounds.length && value > bounds[bucket]) {
+                bucket++;
+            }
+            counts.incrementAndGet(bucket);
+            total.increment();
+            sum.add(value);
+        }
+
+        void reset() {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0L);
+            }
+            total.reset();
+            sum.reset();
+        }
+
+        private String percentile(long count, double fraction) {
+            long rank = (long) Math.ceil(count * fraction);
+            long seen = 0L;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank) {
+                    return i < bounds.length ? "<=" + format(bounds[i]) : ">" + format(bounds[bounds.length - 1]);
+                }
+            }
+            return "-";
+        }
+
+        private String format(long value) {
+            if (!micros) {
+                return Long.toString(value);
+            }
+            return value >= 1_000L
+                ? String.format(Locale.ROOT, "%.1fms", value / 1_000.0)
+                : value + "us";
+        }
+
+        String describe() {
+            long count = total.sum();
+            if (count == 0L) {
+                return name + ": no samples";
+            }
+            return String.format(Locale.ROOT, "%s: n=%d avg=%s p50%s p95%s p99%s",
+                name,
+                count,
+                format(sum.sum() / count),
+                percentile(count, 0.50),
+                percentile(count, 0.95),
+                percentile(count, 0.99));
+        }
+    }
+}
@@ -39,6 +39,10 @@ public class WarlordSystem {
     // Static map to track which mobs are minions of which warlord (thread-safe)
     private static final Map<UUID, UUID> MINION_TO_WARLORD = new ConcurrentHashMap<>();
     
+    // Reverse index (warlord UUID -> its minions), kept in sync with MINION_TO_WARLORD so counting
+    // and listing a warlord's army doesn't scan every minion of every warlord
+    private static final Map<UUID, Set<UUID>> WARLORD_TO_MINIONS = new ConcurrentHashMap<>();
+    
     // Track betrayers - minions that attacked other minions (warlord UUID -> set of betrayer UUIDs)
     private static final Map<UUID, Set<UUID>> WARLORD_BETRAYERS = new ConcurrentHashMap<>();
     
@@ -116,7 +120,15 @@ public class WarlordSystem {
      * @param warlordUuid The warlord's UUID
      */
     public static void registerMinion(UUID minionUuid, UUID warlordUuid) {
-        MINION_TO_WARLORD.put(minionUuid, warlordUuid);
+        UUID previous = MINION_TO_WARLORD.put(minionUuid, warlordUuid);
+        if (previous != null && !previous.equals(warlordUuid)) {
+            removeFromArmy(minionUuid, previous);
+        }
+        WARLORD_TO_MINIONS.compute(warlordUuid, (k, minions) -> {
+            Set<UUID> army = minions != null ? minions : ConcurrentHashMap.<UUID>newKeySet();
+            army.add(minionUuid);
+            return army;
+        });
     }
     
     /**
@@ -125,8 +137,9 @@ public class WarlordSystem {
      */
     public static void unregisterMinion(UUID minionUuid) {
         UUID warlordUuid = MINION_TO_WARLORD.remove(minionUuid);
-        // Also remove from betrayers if applicable
+        // Also remove from the warlord's army and betrayers if applicable
         if (warlordUuid != null) {
+            removeFromArmy(minionUuid, warlordUuid);
             Set<UUID> betrayers = WARLORD_BETRAYERS.get(warlordUuid);
             if (betrayers != null) {
                 betrayers.remove(minionUuid);
@@ -195,7 +208,10 @@ public class WarlordSystem {
      */
     public static void markBetrayer(UUID minionUuid, UUID warlordUuid) {
         // Remove from minion tracking
-        MINION_TO_WARLORD.remove(minionUuid);
+        UUID master = MINION_TO_WARLORD.remove(minionUuid);
+        if (master != null) {
+            removeFromArmy(minionUuid, master);
+        }
         
         // Add to betrayers list for this warlord
         WARLORD_BETRAYERS.computeIfAbsent(warlordUuid, k -> ConcurrentHashMap.newKeySet()).add(minionUuid);
@@ -222,7 +238,12 @@ public class WarlordSystem {
      */
     public static void clearWarlordMinions(UUID warlordUuid) {
         // Remove all minions belonging to this warlord
-        MINION_TO_WARLORD.entrySet().removeIf(entry -> entry.getValue().equals(warlordUuid));
+        Set<UUID> minions = WARLORD_TO_MINIONS.remove(warlordUuid);
+        if (minions != null) {
+            for (UUID minionUuid : minions) {
+                MINION_TO_WARLORD.remove(minionUuid, warlordUuid);
+            }
+        }
         
         // Clear betrayers for this warlord
         WARLORD_BETRAYERS.remove(warlordUuid);
@@ -234,9 +255,8 @@ public class WarlordSystem {
      * @return Number of registered minions
      */
     public static int getMinionCount(UUID warlordUuid) {
-        return (int) MINION_TO_WARLORD.values().stream()
-            .filter(masterUuid -> masterUuid.equals(warlordUuid))
-            .count();
+        Set<UUID> minions = WARLORD_TO_MINIONS.get(warlordUuid);
+        return minions != null ? minions.size() : 0;
     }
     
     /**
@@ -245,13 +265,28 @@ public class WarlordSystem {
      * @return Set of minion UUIDs (copy, safe to modify)
      */
     public static Set<UUID> getMinions(UUID warlordUuid) {
-        Set<UUID> minions = new HashSet<>();
-        for (Map.Entry<UUID, UUID> entry : MINION_TO_WARLORD.entrySet()) {
-            if (entry.getValue().equals(warlordUuid)) {
-                minions.add(entry.getKey());
-            }
-        }
-        return minions;
+        Set<UUID> minions = WARLORD_TO_MINIONS.get(warlordUuid);
+        return minions != null ? new HashSet<>(minions) : new HashSet<>();
+    }
+    
+    /**
+     * Live read-only view of a warlord's minions, for per-tick callers that only iterate or count
+     * @param warlordUuid The warlord's UUID
+     * @return Minion UUIDs (not a copy; safe to iterate while minions are registered or removed)
+     */
+    public static Set<UUID> getMinionsView(UUID warlordUuid) {
+        Set<UUID> minions = WARLORD_TO_MINIONS.get(warlordUuid);
+        return minions != null ? Collections.unmodifiableSet(minions) : Collections.emptySet();
+    }
+    
+    /**
+     * Drop a minion from its warlord's army in the reverse index, removing the army once empty
+     */
+    private static void removeFromArmy(UUID minionUuid, UUID warlordUuid) {
+        WARLORD_TO_MINIONS.computeIfPresent(warlordUuid, (k, minions) -> {
+            minions.remove(minionUuid);
+            return minions.isEmpty() ? null : minions;
+        });
     }
     
     // ==========================================================================